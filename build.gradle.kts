@@ -19,6 +19,53 @@ sourceSets {
       srcDirs("src")
     }
   }
+  // the unit tests, run them with gradle test
+  test {
+    java {
+      srcDirs("src_test")
+    }
+  }
+  // the annotation processor which generates the reflection free
+  // I_JseCreator registry for GWT and Native Compilation
+  create("apt") {
+    java {
+      srcDirs("src_apt")
+    }
+    resources {
+      srcDirs("src_apt")
+      exclude("**/*.java")
+    }
+  }
+  // the GraalVM native-image Feature and reachability metadata generator
+  create("native") {
+    java {
+      srcDirs("src_native")
+    }
+    resources {
+      srcDirs("src_native")
+      exclude("**/*.java")
+    }
+    compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+    runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+  }
+  // the JMH benchmarks, run them with gradle jmh
+  create("jmh") {
+    java {
+      srcDirs("src_jmh")
+    }
+    compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+    runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+  }
+}
+
+dependencies {
+  testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+  testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+  "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+  "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+  "jmhAnnotationProcessor"(sourceSets["apt"].output)
+  // provided by native-image at build time
+  "nativeCompileOnly"("org.graalvm.sdk:nativeimage:23.1.2")
 }
 
 tasks{
@@ -32,6 +79,62 @@ tasks{
     }
   }
 
+  test {
+    useJUnitPlatform()
+  }
+
+  register<Jar>("aptJar") {
+    archiveBaseName.set("i_ctx4jse_apt")
+    from(sourceSets["apt"].output)
+  }
+
+  register<Jar>("nativeJar") {
+    archiveBaseName.set("i_ctx4jse_native")
+    from(sourceSets["native"].output)
+  }
+
+  // gradle nativeMetadata -Pnative.classpath=build/libs/my_app.jar
+  // the native.classpath is required, it's the class path entries (separated
+  // by the path separator) of the consuming project's own classes or jars
+  // which are scanned for I_JseCtxAware and CtxBean classes, i.e. to scan this
+  // library's classes
+  //  gradle nativeMetadata -Pnative.classpath=build/classes/java/main
+  register<NativeMetadata>("nativeMetadata") {
+    group = "native"
+    description = "Writes the native-image reflect-config.json for the I_JseCtxAware and CtxBean classes"
+    dependsOn(compileJava)
+    classpath = sourceSets["native"].runtimeClasspath
+    mainClass.set("org.adligo.i_ctx4jse.graal.ReachabilityMetadataGenerator")
+    if (project.hasProperty("native.classpath")) {
+      scannedClasspath.from(getProp("native.classpath", "").split(File.pathSeparator))
+    }
+    config.set(layout.buildDirectory.file(
+        "generated/native-image/META-INF/native-image/org.adligo/i_ctx4jse/reflect-config.json"))
+  }
+
+  named<JavaCompile>("compileJmhJava") {
+    options.compilerArgs.add(
+        "-Aorg.adligo.i_ctx4jse.registry=org.adligo.i_ctx4jse.jmh.JmhCtxRegistry")
+  }
+
+  // gradle jmh
+  // or with a subset of the benchmarks
+  //  gradle jmh -Pjmh.includes=CtxGetBenchmark
+  // the json results are named with the tag, so they can be compared between versions
+  register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks writing json results to build/reports/jmh"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/i_ctx4jse_" + getTag() + ".json")
+    outputs.file(results)
+    doFirst {
+      results.get().asFile.parentFile.mkdirs()
+    }
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath,
+        getProp("jmh.includes", ".*"))
+  }
+
   compileJava {
     doFirst {
       options.compilerArgs = listOf(
@@ -40,6 +143,28 @@ tasks{
   }
 }
 
+/**
+ * Runs the ReachabilityMetadataGenerator over the scannedClasspath, which is
+ * a required input (set from -Pnative.classpath), so that the config is
+ * rewritten when the scanned classes change.
+ */
+abstract class NativeMetadata : JavaExec() {
+  @get:InputFiles
+  @get:Classpath
+  abstract val scannedClasspath: ConfigurableFileCollection
+
+  @get:OutputFile
+  abstract val config: RegularFileProperty
+
+  override fun exec() {
+    if (scannedClasspath.isEmpty) {
+      throw GradleException("The scanned class path is required, i.e. -Pnative.classpath=build/libs/my_app.jar")
+    }
+    args(listOf(config.get().asFile.absolutePath) + scannedClasspath.files.map { it.absolutePath })
+    super.exec()
+  }
+}
+
 fun getProp(key: String, default: String): String {
   var r : String = default
   if (project.hasProperty(key)) {
@@ -67,5 +192,17 @@ publishing {
       version = getTag()
       from(components["java"])
     }
+    create<MavenPublication>("apt") {
+      groupId = "org.adligo"
+      artifactId = "i_ctx4jse_apt"
+      version = getTag()
+      artifact(tasks["aptJar"])
+    }
+    create<MavenPublication>("native") {
+      groupId = "org.adligo"
+      artifactId = "i_ctx4jse_native"
+      version = getTag()
+      artifact(tasks["nativeJar"])
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.io.PrintStream;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_PrintCtx;
+
+/**
+ * This is a {@link I_PrintCtx} which enqueues the print and println messages
+ * into a bounded lock free {@link PrintRingBuffer}, which is drained by a single
+ * background thread in batched writes, so that printing threads don't
+ * serialize on the {@link PrintStream}'s lock and per line flush.  The
+ * {@link PrintBackpressure} controls what happens when the buffer is full.<br/>
+ * The background thread is created by a {@link ThreadFactory}, so it may be a
+ * virtual thread on JDK 21+.  Call {@link #close()} or
+ * {@link #addShutdownHook()} to flush the remaining messages on shutdown, after
+ * close messages are printed directly.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class AsyncPrintCtx extends DelegatingJseCtx implements I_PrintCtx, AutoCloseable {
+  public static final int DEFAULT_BATCH = 256;
+  public static final int DEFAULT_CAPACITY = 8192;
+  public static final String THREAD_NAME = "AsyncPrintCtx";
+
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final PrintBackpressure backpressure;
+  private final PrintRingBuffer buffer;
+  private final Thread consumer;
+  private final LongAdder dropped = new LongAdder();
+  private final String lineSeparator = System.lineSeparator();
+  private final PrintStream out;
+  private final AtomicLong samples = new AtomicLong();
+  private final int sampleEvery;
+  private volatile boolean closed;
+  private volatile boolean sleeping;
+  /**
+   * the number of messages the consumer has printed and flushed, which
+   * trails the buffer's head, since the head moves as soon as a message is
+   * copied into the batch
+   */
+  private volatile long written;
+  private Thread shutdownHook;
+
+  public AsyncPrintCtx(I_JseCtx delegate) {
+    this(delegate, System.out, DEFAULT_CAPACITY, PrintBackpressure.BLOCK);
+  }
+
+  public AsyncPrintCtx(I_JseCtx delegate, PrintStream out, int capacity,
+      PrintBackpressure backpressure) {
+    this(delegate, out, capacity, backpressure, 100, (r) -> {
+      Thread t = new Thread(r, THREAD_NAME);
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  /**
+   * @param delegate
+   * @param out
+   * @param capacity the ring buffer capacity, rounded up to a power of two
+   * @param backpressure
+   * @param sampleEvery for {@link PrintBackpressure#SAMPLE} one in this
+   *   many messages are kept when the buffer is full
+   * @param threads creates the background thread
+   */
+  public AsyncPrintCtx(I_JseCtx delegate, PrintStream out, int capacity,
+      PrintBackpressure backpressure, int sampleEvery, ThreadFactory threads) {
+    super(delegate);
+    this.out = Check.notNull(out);
+    this.backpressure = Check.notNull(backpressure);
+    this.sampleEvery = Check.isPositive(sampleEvery);
+    buffer = new PrintRingBuffer(Check.isPositive(capacity));
+    consumer = threads.newThread(this::drain);
+    consumer.start();
+  }
+
+  /**
+   * This adds a JVM shutdown hook which calls {@link #close()}.
+   * @return this
+   */
+  public synchronized AsyncPrintCtx addShutdownHook() {
+    if (shutdownHook == null) {
+      shutdownHook = new Thread(this::close, THREAD_NAME + "ShutdownHook");
+      Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+    return this;
+  }
+
+  /**
+   * This stops the background thread after it writes the remaining messages.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+        try {
+          Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException x) {
+          //the JVM is already shutting down
+        }
+      }
+    }
+    LockSupport.unpark(consumer);
+    try {
+      consumer.join();
+    } catch (InterruptedException x) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void drain() {
+    StringBuilder sb = new StringBuilder(DEFAULT_BATCH * 16);
+    while (true) {
+      int count = buffer.drainTo(sb, lineSeparator, DEFAULT_BATCH);
+      if (count > 0) {
+        while (count == DEFAULT_BATCH && sb.length() < 65536) {
+          count = buffer.drainTo(sb, lineSeparator, DEFAULT_BATCH);
+        }
+        out.print(sb);
+        out.flush();
+        sb.setLength(0);
+        written = buffer.head();
+      } else if (closed) {
+        if (buffer.isEmpty()) {
+          return;
+        }
+        Thread.onSpinWait();
+      } else {
+        sleeping = true;
+        if (buffer.isEmpty() && !closed) {
+          LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        sleeping = false;
+      }
+    }
+  }
+
+  private void enqueue(String message, boolean newLine) {
+    if (closed) {
+      printDirect(message, newLine);
+      return;
+    }
+    if (!buffer.offer(message, newLine)) {
+      switch (backpressure) {
+        case DROP:
+          dropped.increment();
+          return;
+        case SAMPLE:
+          if (samples.incrementAndGet() % sampleEvery != 0) {
+            dropped.increment();
+            return;
+          }
+          offerBlocking(message, newLine);
+          break;
+        default:
+          offerBlocking(message, newLine);
+      }
+    }
+    if (closed) {
+      //close may have raced with the offer, after the consumer's last drain
+      try {
+        consumer.join();
+      } catch (InterruptedException x) {
+        Thread.currentThread().interrupt();
+      }
+      printDirect(null, false);
+      return;
+    }
+    if (sleeping) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  /**
+   * This waits until the background thread has written every message
+   * which was enqueued before this call.
+   */
+  public void flush() {
+    long target = buffer.tail();
+    while (written < target && consumer.isAlive()) {
+      LockSupport.unpark(consumer);
+      LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+    }
+    out.flush();
+  }
+
+  /**
+   * @return the number of messages dropped by the backpressure
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  private void offerBlocking(String message, boolean newLine) {
+    while (!buffer.offer(message, newLine)) {
+      if (!consumer.isAlive()) {
+        //the consumer exited (or failed), so the buffer will never have room
+        printDirect(message, newLine);
+        return;
+      }
+      LockSupport.unpark(consumer);
+      LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+    }
+  }
+
+  /**
+   * This writes the message (if any) directly to the stream, after any
+   * messages left in the buffer once the consumer has exited.
+   * @param message
+   * @param newLine
+   */
+  private void printDirect(String message, boolean newLine) {
+    synchronized (buffer) {
+      if (!consumer.isAlive() && !buffer.isEmpty()) {
+        StringBuilder sb = new StringBuilder(DEFAULT_BATCH * 16);
+        while (buffer.drainTo(sb, lineSeparator, DEFAULT_BATCH) > 0) {
+          out.print(sb);
+          sb.setLength(0);
+        }
+      }
+      if (message != null) {
+        if (newLine) {
+          out.println(message);
+        } else {
+          out.print(message);
+        }
+      }
+    }
+    out.flush();
+  }
+
+  @Override
+  public I_PrintCtx print(Object message) {
+    enqueue(String.valueOf(message), false);
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx print(String message) {
+    enqueue(String.valueOf(message), false);
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx println(Object message) {
+    enqueue(String.valueOf(message), true);
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx println(String message) {
+    enqueue(String.valueOf(message), true);
+    return this;
+  }
+}
@@ -0,0 +1,108 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.io.PrintStream;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_PrintCtx;
+
+/**
+ * This is a {@link I_PrintCtx} which accumulates the print fragments in a
+ * per thread {@link StringBuilder}, and writes the whole line in a single
+ * {@link PrintStream#println(String)} call, so that a line built from many
+ * print calls costs one write (and flush) and isn't interleaved with other
+ * threads output.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class BufferedPrintCtx extends DelegatingJseCtx implements I_PrintCtx {
+  /**
+   * larger per thread buffers are discarded after a line is written
+   */
+  public static final int MAX_RETAINED_CAPACITY = 8192;
+
+  private final PrintStream out;
+  private final ThreadLocal<StringBuilder> lines = ThreadLocal.withInitial(StringBuilder::new);
+
+  public BufferedPrintCtx(I_JseCtx delegate) {
+    this(delegate, System.out);
+  }
+
+  public BufferedPrintCtx(I_JseCtx delegate, PrintStream out) {
+    super(delegate);
+    this.out = Check.notNull(out);
+  }
+
+  /**
+   * This writes the current threads pending fragments (if any) without a
+   * line separator.
+   * @return this
+   */
+  public BufferedPrintCtx flush() {
+    StringBuilder sb = lines.get();
+    if (sb.length() > 0) {
+      out.print(sb.toString());
+      reset(sb);
+    }
+    out.flush();
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx print(Object message) {
+    lines.get().append(message);
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx print(String message) {
+    lines.get().append(message);
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx println(Object message) {
+    return println(String.valueOf(message));
+  }
+
+  @Override
+  public I_PrintCtx println(String message) {
+    StringBuilder sb = lines.get();
+    if (sb.length() == 0) {
+      out.println(message);
+    } else {
+      out.println(sb.append(message).toString());
+      reset(sb);
+    }
+    return this;
+  }
+
+  private void reset(StringBuilder sb) {
+    if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+      lines.remove();
+    } else {
+      sb.setLength(0);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This is a opt in context which serves {@link #getTime()} from a volatile
+ * field, which a single background (ticker) thread updates from the delegate's
+ * {@link I_JseCtx#getTime()} at a configurable resolution (i.e. 1 or 10
+ * milliseconds).  This makes getTime a single memory read for code which
+ * calls it many times per request, at the cost of the time being up to one
+ * resolution behind.<br/>
+ * {@link #getNanoTime()} is NOT cached and is delegated, since it is used to
+ * measure durations.  After {@link #close()} getTime is also delegated.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CachedClockCtx extends DelegatingJseCtx implements AutoCloseable {
+  public static final long DEFAULT_RESOLUTION_MILLIS = 1;
+  public static final String THREAD_NAME = "CachedClockCtx";
+
+  private final long resolutionNanos;
+  private final Thread ticker;
+  private volatile boolean closed;
+  private volatile long time;
+
+  public CachedClockCtx(I_JseCtx delegate) {
+    this(delegate, DEFAULT_RESOLUTION_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  public CachedClockCtx(I_JseCtx delegate, long resolution, TimeUnit unit) {
+    this(delegate, resolution, unit, (r) -> {
+      Thread t = new Thread(r, THREAD_NAME);
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  /**
+   * @param delegate
+   * @param resolution how often the time is updated
+   * @param unit
+   * @param threads creates the ticker thread
+   */
+  public CachedClockCtx(I_JseCtx delegate, long resolution, TimeUnit unit,
+      ThreadFactory threads) {
+    super(delegate);
+    resolutionNanos = unit.toNanos(Check.isPositive(resolution));
+    time = delegate.getTime();
+    ticker = threads.newThread(this::tick);
+    ticker.start();
+  }
+
+  /**
+   * This stops the ticker thread.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(ticker);
+    try {
+      ticker.join();
+    } catch (InterruptedException x) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public long getResolutionNanos() {
+    return resolutionNanos;
+  }
+
+  @Override
+  public long getTime() {
+    if (closed) {
+      return super.getTime();
+    }
+    return time;
+  }
+
+  private void tick() {
+    I_JseCtx delegate = getDelegate();
+    while (!closed) {
+      time = delegate.getTime();
+      LockSupport.parkNanos(this, resolutionNanos);
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_PrintCtx;
+
+/**
+ * This is a {@link I_PrintCtx} which encodes the messages with a cached
+ * {@link CharsetEncoder} into reusable direct {@link ByteBuffer}s, and writes
+ * them in batches to a {@link WritableByteChannel} (i.e. a {@link FileChannel}),
+ * with a single gathering write when the channel is a
+ * {@link GatheringByteChannel}.  This avoids the {@link java.io.PrintStream}'s
+ * internal writer and per line write, and printing a String doesn't allocate
+ * in the steady state.<br/>
+ * Bytes are ONLY written when all of the buffers are full, or on
+ * {@link #flush()} and {@link #close()}; there is no size or time based flush,
+ * so a slow trickle of messages may sit in the buffers indefinitely, unless
+ * the caller flushes (i.e. from a ScheduledExecutorService).  After
+ * {@link #close()} a print throws a IllegalStateException, and a flush does
+ * nothing.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ChannelPrintCtx extends DelegatingJseCtx implements I_PrintCtx, AutoCloseable {
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+  public static final int DEFAULT_BUFFERS = 4;
+  public static final int CHAR_BUFFER_SIZE = 4096;
+  public static final String CLOSED = "The ChannelPrintCtx is closed!";
+
+  /**
+   * This opens (creates or appends to) the file.
+   * @param delegate
+   * @param file
+   * @return
+   */
+  public static ChannelPrintCtx open(I_JseCtx delegate, Path file) {
+    try {
+      return new ChannelPrintCtx(delegate, FileChannel.open(file, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+  }
+
+  private final ByteBuffer[] buffers;
+  private final WritableByteChannel channel;
+  private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final CharsetEncoder encoder;
+  private final String lineSeparator = System.lineSeparator();
+  /**
+   * the index of the buffer being filled, guarded by this
+   */
+  private int current;
+
+  public ChannelPrintCtx(I_JseCtx delegate, WritableByteChannel channel) {
+    this(delegate, channel, StandardCharsets.UTF_8, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFERS);
+  }
+
+  public ChannelPrintCtx(I_JseCtx delegate, WritableByteChannel channel, Charset charset,
+      int bufferSize, int buffers) {
+    super(delegate);
+    this.channel = Check.notNull(channel);
+    encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    Check.isTrue(Check.isPositive(bufferSize) >= encoder.maxBytesPerChar() * 2);
+    this.buffers = new ByteBuffer[Check.isPositive(buffers)];
+    for (int i = 0; i < buffers; i++) {
+      this.buffers[i] = ByteBuffer.allocateDirect(bufferSize);
+    }
+  }
+
+  /**
+   * This flushes and closes the channel, a second call does nothing.
+   */
+  @Override
+  public synchronized void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    chars.flip();
+    encode(true);
+    while (encoder.flush(buffers[current]).isOverflow()) {
+      nextBuffer();
+    }
+    write(current + 1);
+    current = 0;
+    try {
+      channel.close();
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+  }
+
+  private void checkOpen() {
+    if (closed.get()) {
+      throw new IllegalStateException(CLOSED);
+    }
+  }
+
+  private void encode(String message) {
+    int length = message.length();
+    int start = 0;
+    while (start < length) {
+      int end = Math.min(length, start + chars.remaining());
+      message.getChars(start, end, chars.array(), chars.arrayOffset() + chars.position());
+      chars.position(chars.position() + end - start);
+      start = end;
+      chars.flip();
+      encode(false);
+      //keeps a split surrogate pair for the next pass (or message)
+      chars.compact();
+    }
+  }
+
+  private void encode(boolean endOfInput) {
+    while (encoder.encode(chars, buffers[current], endOfInput).isOverflow()) {
+      nextBuffer();
+    }
+  }
+
+  /**
+   * This writes all of the encoded bytes to the channel, or does nothing
+   * once this is closed.
+   */
+  public synchronized void flush() {
+    if (closed.get()) {
+      return;
+    }
+    write(current + 1);
+    current = 0;
+  }
+
+  private void nextBuffer() {
+    current++;
+    if (current == buffers.length) {
+      write(buffers.length);
+      current = 0;
+    }
+  }
+
+  @Override
+  public I_PrintCtx print(Object message) {
+    return print(String.valueOf(message));
+  }
+
+  @Override
+  public synchronized I_PrintCtx print(String message) {
+    checkOpen();
+    encode(String.valueOf(message));
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx println(Object message) {
+    return println(String.valueOf(message));
+  }
+
+  @Override
+  public synchronized I_PrintCtx println(String message) {
+    checkOpen();
+    encode(String.valueOf(message));
+    encode(lineSeparator);
+    return this;
+  }
+
+  private void write(int count) {
+    long remaining = 0;
+    for (int i = 0; i < count; i++) {
+      remaining += buffers[i].flip().remaining();
+    }
+    try {
+      if (channel instanceof GatheringByteChannel) {
+        GatheringByteChannel gathering = (GatheringByteChannel) channel;
+        while (remaining > 0) {
+          remaining -= gathering.write(buffers, 0, count);
+        }
+      } else {
+        for (int i = 0; i < count; i++) {
+          while (buffers[i].hasRemaining()) {
+            channel.write(buffers[i]);
+          }
+        }
+      }
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    } finally {
+      for (int i = 0; i < count; i++) {
+        buffers[i].clear();
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.adligo.i_ctx4jse.jvm;
+
+/**
+ * This is a immutable snapshot of the counts for one tag and assertion
+ * type, from {@link LongAdderCheckRecorder#snapshot()}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CheckCount {
+  private final long checks;
+  private final long failures;
+  private final String tag;
+  private final String type;
+
+  public CheckCount(String tag, String type, long checks, long failures) {
+    this.tag = tag;
+    this.type = type;
+    this.checks = checks;
+    this.failures = failures;
+  }
+
+  /**
+   * @return the number of assertions, only recorded when
+   * {@link org.adligo.i_ctx4jse.shared.CheckMetrics#CHECKS} is true
+   */
+  public long getChecks() {
+    return checks;
+  }
+
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return the tag or {@link LongAdderCheckRecorder#NO_TAG}
+   */
+  public String getTag() {
+    return tag;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return "CheckCount [tag=" + tag + ", type=" + type + ", checks=" + checks
+        + ", failures=" + failures + "]";
+  }
+}
@@ -0,0 +1,42 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.Map;
+
+/**
+ * This is the JMX view of a {@link LongAdderCheckRecorder}, the map keys
+ * are the assertion type, prefixed with tag: when a tag was set.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public interface CheckRecorderMXBean {
+
+  long getCheckCount();
+
+  Map<String, Long> getChecks();
+
+  long getFailureCount();
+
+  Map<String, Long> getFailures();
+
+  void reset();
+}
@@ -0,0 +1,228 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.ChildCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCreator;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This is a reference {@link I_JseCtx} implementation for JSE on the JVM.
+ * The singletons returned from {@link #get(Class)} are held by a
+ * {@link ClassValue}, so that a repeat lookup is a {@link ClassValue#get(Class)}
+ * followed by a single volatile read, without any global lock.  The first
+ * instance of each class is created exactly once, even when many threads race
+ * on it, by locking only on that classes holder.  A circular creation throws
+ * a IllegalStateException, also when the cycle spans threads (i.e. a
+ * {@link CtxWarmUp} of classes which don't declare their dependencies), instead
+ * of deadlocking on the holders.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ClassValueCtx implements I_JseCtx {
+  public static final String CIRCULAR_CREATION_OF = "Circular creation of ";
+  public static final String UNABLE_TO_FIND_CLASS = "Unable to find the class ";
+
+  /**
+   * This holds a single instance, which is published through the volatile
+   * instance field.
+   */
+  static final class Holder {
+    private final Class<?> clazz;
+    private volatile Object instance;
+    /**
+     * written under this, read without it to detect circular creation
+     * between threads
+     */
+    private volatile Thread creator;
+
+    Holder(Class<?> clazz) {
+      this.clazz = clazz;
+    }
+
+    /**
+     * This follows the creator of this holder, to the holder it is waiting
+     * for, to it's creator etc.
+     * @param current
+     * @param waiting
+     * @throws IllegalStateException if the current thread is found, since
+     * waiting would deadlock
+     */
+    private void checkCycle(Thread current, ConcurrentHashMap<Thread, Holder> waiting) {
+      Holder h = this;
+      //a bound, in case the threads move on while this is followed
+      for (int i = 0; h != null && i <= waiting.size(); i++) {
+        Thread t = h.creator;
+        if (t == null) {
+          return;
+        }
+        if (t == current) {
+          throw new IllegalStateException(CIRCULAR_CREATION_OF + clazz.getName());
+        }
+        h = waiting.get(t);
+      }
+    }
+
+    Object get(ClassValueCtx ctx, I_JseCtx leaf) {
+      Object r = instance;
+      if (r != null) {
+        return r;
+      }
+      Thread current = Thread.currentThread();
+      if (creator == current) {
+        return create(ctx, leaf);
+      }
+      //registered before the check (even when there is no creator yet, since
+      //one may take the lock first), so the last thread to close a cycle
+      //sees the others
+      ctx.waiting.put(current, this);
+      try {
+        checkCycle(current, ctx.waiting);
+        return create(ctx, leaf);
+      } finally {
+        ctx.waiting.remove(current, this);
+      }
+    }
+
+    private synchronized Object create(ClassValueCtx ctx, I_JseCtx leaf) {
+      //no longer waiting, so a nested get can register
+      ctx.waiting.remove(Thread.currentThread(), this);
+      Object r = instance;
+      if (r != null) {
+        return r;
+      }
+      Thread current = Thread.currentThread();
+      if (creator == current) {
+        throw new IllegalStateException(CIRCULAR_CREATION_OF + clazz.getName());
+      }
+      creator = current;
+      try {
+        r = ctx.create(clazz, leaf);
+        instance = Check.notNull(r);
+        ctx.created.add(this);
+      } finally {
+        creator = null;
+      }
+      return r;
+    }
+  }
+
+  /**
+   * the holders with instances, for {@link #freeze()}
+   */
+  private final ConcurrentLinkedQueue<Holder> created = new ConcurrentLinkedQueue<>();
+  private final I_JseCreator creator;
+  /**
+   * the holder each thread is waiting to create (or get) an instance from,
+   * while an other thread creates it
+   */
+  private final ConcurrentHashMap<Thread, Holder> waiting = new ConcurrentHashMap<>();
+  private final ClassValue<Holder> holders = new ClassValue<Holder>() {
+    @Override
+    protected Holder computeValue(Class<?> type) {
+      //this may be called by multiple threads, but only one Holder is kept
+      return new Holder(type);
+    }
+  };
+
+  public ClassValueCtx() {
+    this(new MethodHandleCreator());
+  }
+
+  public ClassValueCtx(I_JseCreator creator) {
+    this.creator = Check.notNull(creator);
+  }
+
+  /**
+   * @return a new child of this context, this SHOULD be fully wired first
+   */
+  public ChildCtx child() {
+    return new ChildCtx(this, creator);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz) {
+    return creator.create(clazz, this);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    return creator.create(clazz, leaf);
+  }
+
+  @Override
+  public Object create(String name) {
+    return create(forName(name));
+  }
+
+  static Class<?> forName(String name) {
+    try {
+      return Class.forName(name);
+    } catch (ClassNotFoundException x) {
+      throw new IllegalArgumentException(UNABLE_TO_FIND_CLASS + name, x);
+    }
+  }
+
+  /**
+   * This snapshots the instances created so far, into a immutable
+   * {@link FrozenCtx} for faster lookups, this SHOULD be fully wired first.
+   * @return
+   */
+  public FrozenCtx freeze() {
+    List<Class<?>> classes = new ArrayList<>();
+    List<Object> instances = new ArrayList<>();
+    for (Holder h : created) {
+      classes.add(h.clazz);
+      instances.add(h.instance);
+    }
+    return new FrozenCtx(this, classes.toArray(new Class<?>[classes.size()]), instances.toArray());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T get(Class<T> clazz) {
+    return (T) holders.get(clazz).get(this, this);
+  }
+
+  /**
+   * Note a instance is created once, with the leaf of the first get.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T get(Class<T> clazz, I_JseCtx leaf) {
+    return (T) holders.get(clazz).get(this, leaf);
+  }
+
+  @Override
+  public Object get(String name) {
+    return get(forName(name));
+  }
+
+  public I_JseCreator getCreator() {
+    return creator;
+  }
+}
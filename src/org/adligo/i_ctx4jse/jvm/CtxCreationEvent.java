@@ -0,0 +1,43 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This is the Java Flight Recorder event committed by {@link InstrumentedCtx}
+ * for each instance it's creator creates, the duration of the event is the
+ * creation (constructor) latency.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+@Name("org.adligo.i_ctx4jse.CtxCreation")
+@Label("Context Creation")
+@Category("i_ctx4jse")
+@Description("A instance created by a I_JseCtx's creator")
+public class CtxCreationEvent extends Event {
+  @Label("Class")
+  String className;
+}
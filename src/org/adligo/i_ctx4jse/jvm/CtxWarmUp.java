@@ -0,0 +1,206 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.CtxDependencies;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This eagerly creates (gets) context singletons at startup.  It follows the
+ * {@link CtxDependencies} of the classes to build the dependency graph,
+ * reports the cycles, and gets each class on the executor once it's
+ * dependencies have been created, so that independent branches are created in
+ * parallel and the time to ready is close to the critical path.  By default
+ * each warm up uses a new virtual thread per task executor (JDK 21+), or the
+ * {@link ForkJoinPool#commonPool()}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CtxWarmUp {
+  private static final Object[] NO_ARGS = new Object[] {};
+
+  /**
+   * @return a new virtual thread per task executor, or null before JDK 21
+   */
+  static ExecutorService newVirtualExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null, NO_ARGS);
+    } catch (ReflectiveOperationException | RuntimeException x) {
+      return null;
+    }
+  }
+
+  private final I_JseCtx ctx;
+  private final Executor executor;
+
+  public CtxWarmUp(I_JseCtx ctx) {
+    this.ctx = Check.notNull(ctx);
+    this.executor = null;
+  }
+
+  public CtxWarmUp(I_JseCtx ctx, Executor executor) {
+    this.ctx = Check.notNull(ctx);
+    this.executor = Check.notNull(executor);
+  }
+
+  private Map<Class<?>, Class<?>[]> graph(Collection<Class<?>> classes) {
+    Map<Class<?>, Class<?>[]> r = new LinkedHashMap<>();
+    Deque<Class<?>> todo = new ArrayDeque<>(classes);
+    while (!todo.isEmpty()) {
+      Class<?> c = todo.pop();
+      if (!r.containsKey(c)) {
+        CtxDependencies deps = c.getAnnotation(CtxDependencies.class);
+        Class<?>[] d = deps == null ? new Class<?>[] {} : deps.value();
+        r.put(c, d);
+        for (Class<?> dep : d) {
+          todo.push(dep);
+        }
+      }
+    }
+    return r;
+  }
+
+  /**
+   * This depth first search adds the classes to the order after their
+   * dependencies, and adds the cycles it finds.
+   */
+  private void order(Class<?> c, Map<Class<?>, Class<?>[]> graph, Map<Class<?>, Boolean> visiting,
+      List<Class<?>> path, List<Class<?>> order, List<List<Class<?>>> cycles) {
+    visiting.put(c, Boolean.TRUE);
+    path.add(c);
+    for (Class<?> d : graph.get(c)) {
+      Boolean v = visiting.get(d);
+      if (v == null) {
+        order(d, graph, visiting, path, order, cycles);
+      } else if (v) {
+        List<Class<?>> cycle = new ArrayList<>(path.subList(path.indexOf(d), path.size()));
+        cycle.add(d);
+        cycles.add(cycle);
+      }
+    }
+    path.remove(path.size() - 1);
+    visiting.put(c, Boolean.FALSE);
+    order.add(c);
+  }
+
+  /**
+   * This gets the classes, and their dependencies, from the context.
+   * @param classes
+   * @return the report, which is NOT thrown on failure see
+   * {@link CtxWarmUpReport#requireSuccess()}
+   */
+  public CtxWarmUpReport warmUp(Collection<Class<?>> classes) {
+    long start = System.nanoTime();
+    Map<Class<?>, Class<?>[]> graph = graph(Check.notNull(classes));
+    List<Class<?>> order = new ArrayList<>(graph.size());
+    List<List<Class<?>>> cycles = new ArrayList<>();
+    Map<Class<?>, Boolean> visiting = new HashMap<>();
+    for (Class<?> c : graph.keySet()) {
+      if (!visiting.containsKey(c)) {
+        order(c, graph, visiting, new ArrayList<>(), order, cycles);
+      }
+    }
+    Set<Class<?>> cyclic = new HashSet<>();
+    for (List<Class<?>> cycle : cycles) {
+      cyclic.addAll(cycle);
+    }
+
+    Map<Class<?>, Long> warmed = new ConcurrentHashMap<>();
+    Map<Class<?>, Long> paths = new ConcurrentHashMap<>();
+    Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+    Map<Class<?>, Class<?>> skipped = new ConcurrentHashMap<>();
+    ExecutorService created = executor == null ? newVirtualExecutor() : null;
+    Executor e = executor != null ? executor : created != null ? created : ForkJoinPool.commonPool();
+    try {
+      Map<Class<?>, CompletableFuture<Void>> futures = new HashMap<>();
+      for (Class<?> c : order) {
+        Class<?>[] deps = graph.get(c);
+        List<CompletableFuture<Void>> depFutures = new ArrayList<>(deps.length);
+        for (Class<?> d : deps) {
+          CompletableFuture<Void> f = futures.get(d);
+          //a dependency in a cycle with c isn't scheduled yet
+          if (f != null) {
+            depFutures.add(f);
+          }
+        }
+        futures.put(c, CompletableFuture.allOf(depFutures.toArray(new CompletableFuture<?>[0]))
+            .thenRunAsync(() -> warm(c, deps, cyclic, warmed, paths, failures, skipped), e));
+      }
+      CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+    } finally {
+      if (created != null) {
+        created.shutdown();
+      }
+    }
+    long criticalPath = 0;
+    for (Long p : paths.values()) {
+      criticalPath = Math.max(criticalPath, p);
+    }
+    return new CtxWarmUpReport(new LinkedHashMap<>(warmed), new LinkedHashMap<>(failures),
+        new LinkedHashMap<>(skipped), cycles, System.nanoTime() - start, criticalPath);
+  }
+
+  private void warm(Class<?> c, Class<?>[] deps, Set<Class<?>> cyclic, Map<Class<?>, Long> warmed,
+      Map<Class<?>, Long> paths, Map<Class<?>, Throwable> failures, Map<Class<?>, Class<?>> skipped) {
+    if (cyclic.contains(c)) {
+      return;
+    }
+    long path = 0;
+    for (Class<?> d : deps) {
+      Long p = paths.get(d);
+      if (p == null) {
+        Class<?> cause = skipped.get(d);
+        skipped.put(c, cause == null ? d : cause);
+        return;
+      }
+      path = Math.max(path, p);
+    }
+    long start = System.nanoTime();
+    try {
+      ctx.get(c);
+    } catch (Throwable x) {
+      failures.put(c, x);
+      return;
+    }
+    long nanos = System.nanoTime() - start;
+    warmed.put(c, nanos);
+    paths.put(c, path + nanos);
+  }
+}
@@ -0,0 +1,136 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is the result of {@link CtxWarmUp#warmUp(java.util.Collection)}, the
+ * classes created (with their creation time), the failures, the classes
+ * skipped since a dependency failed or was in a cycle, and the cycles.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CtxWarmUpReport {
+  private final long criticalPathNanos;
+  private final List<List<Class<?>>> cycles;
+  private final long elapsedNanos;
+  private final Map<Class<?>, Throwable> failures;
+  private final Map<Class<?>, Class<?>> skipped;
+  private final Map<Class<?>, Long> warmed;
+
+  CtxWarmUpReport(Map<Class<?>, Long> warmed, Map<Class<?>, Throwable> failures,
+      Map<Class<?>, Class<?>> skipped, List<List<Class<?>>> cycles, long elapsedNanos,
+      long criticalPathNanos) {
+    this.warmed = Collections.unmodifiableMap(warmed);
+    this.failures = Collections.unmodifiableMap(failures);
+    this.skipped = Collections.unmodifiableMap(skipped);
+    this.cycles = Collections.unmodifiableList(cycles);
+    this.elapsedNanos = elapsedNanos;
+    this.criticalPathNanos = criticalPathNanos;
+  }
+
+  /**
+   * @return the longest chain of dependent creation times, which is the
+   * lower bound of {@link #getElapsedNanos()}
+   */
+  public long getCriticalPathNanos() {
+    return criticalPathNanos;
+  }
+
+  /**
+   * @return each cycle, starting and ending with the same class
+   */
+  public List<List<Class<?>>> getCycles() {
+    return cycles;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public Map<Class<?>, Throwable> getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return the skipped classes, to the failed or cyclic dependency which
+   * caused them to be skipped
+   */
+  public Map<Class<?>, Class<?>> getSkipped() {
+    return skipped;
+  }
+
+  /**
+   * @return the created classes, to the nanoseconds their get took
+   */
+  public Map<Class<?>, Long> getWarmed() {
+    return warmed;
+  }
+
+  public boolean isSuccess() {
+    return failures.isEmpty() && skipped.isEmpty() && cycles.isEmpty();
+  }
+
+  /**
+   * @throws IllegalStateException with {@link #toString()} as the message,
+   * and the failures suppressed, unless this is a success
+   */
+  public void requireSuccess() {
+    if (!isSuccess()) {
+      IllegalStateException x = new IllegalStateException(toString());
+      for (Throwable t : failures.values()) {
+        x.addSuppressed(t);
+      }
+      throw x;
+    }
+  }
+
+  @Override
+  public String toString() {
+    String lineSeparator = System.lineSeparator();
+    StringBuilder sb = new StringBuilder(128);
+    sb.append("CtxWarmUpReport [warmed=").append(warmed.size()).append(", failures=")
+        .append(failures.size()).append(", skipped=").append(skipped.size())
+        .append(", cycles=").append(cycles.size()).append(", elapsedNanos=").append(elapsedNanos)
+        .append(", criticalPathNanos=").append(criticalPathNanos).append(']');
+    for (List<Class<?>> cycle : cycles) {
+      sb.append(lineSeparator).append("\tcycle: ");
+      for (int i = 0; i < cycle.size(); i++) {
+        if (i > 0) {
+          sb.append(" -> ");
+        }
+        sb.append(cycle.get(i).getName());
+      }
+    }
+    for (Map.Entry<Class<?>, Throwable> e : failures.entrySet()) {
+      sb.append(lineSeparator).append("\tfailed: ").append(e.getKey().getName()).append(' ')
+          .append(e.getValue());
+    }
+    for (Map.Entry<Class<?>, Class<?>> e : skipped.entrySet()) {
+      sb.append(lineSeparator).append("\tskipped: ").append(e.getKey().getName())
+          .append(" due to ").append(e.getValue().getName());
+    }
+    return sb.toString();
+  }
+}
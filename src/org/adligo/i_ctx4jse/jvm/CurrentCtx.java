@@ -0,0 +1,284 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This binds and looks up the current (leaf most) {@link I_JseCtx} for the
+ * code running in a scope.  On JDKs with java.lang.ScopedValue (21+) the
+ * binding is a ScopedValue, so that virtual threads don't need a ThreadLocal
+ * map, and subtasks forked in a StructuredTaskScope see the parent context
+ * without any copying.  On older JDKs (or when ScopedValue is a disabled
+ * preview) this falls back to a ThreadLocal, which is restored when the scope
+ * ends, see {@link #isScoped()}, {@link #getScopedFailure()} and
+ * {@link #requireScoped()}.<br/>
+ * Tasks handed to a plain {@link java.util.concurrent.Executor} should be
+ * wrapped with {@link #wrap(Runnable)} or {@link #wrap(Callable)}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CurrentCtx {
+  public static final String NO_CURRENT_CTX = "There is no current I_JseCtx bound to this scope.";
+  public static final String SCOPED_VALUE_UNAVAILABLE = "ScopedValue is unavailable, the current I_JseCtx is a ThreadLocal.";
+
+  /**
+   * () Object, ScopedValue#get
+   */
+  private static final MethodHandle GET;
+  /**
+   * () boolean, ScopedValue#isBound
+   */
+  private static final MethodHandle IS_BOUND;
+  private static final ThreadLocal<I_JseCtx> LOCAL;
+  /**
+   * (Object, Runnable) void, Carrier#run
+   */
+  private static final MethodHandle RUN;
+  private static final Object SCOPED;
+  private static final Throwable SCOPED_FAILURE;
+  /**
+   * (Object, Object) Object, ScopedValue#where
+   */
+  private static final MethodHandle WHERE;
+
+  static {
+    MethodHandle get = null;
+    MethodHandle isBound = null;
+    MethodHandle run = null;
+    Object scoped = null;
+    Throwable failure = null;
+    MethodHandle where = null;
+    try {
+      Class<?> scopedClass = Class.forName("java.lang.ScopedValue");
+      Class<?> carrierClass = Class.forName("java.lang.ScopedValue$Carrier");
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      scoped = lookup.findStatic(scopedClass, "newInstance", MethodType.methodType(scopedClass))
+          .invoke();
+      //orElse(null) is rejected by the final (25+) ScopedValue
+      isBound = lookup.findVirtual(scopedClass, "isBound", MethodType.methodType(boolean.class))
+          .bindTo(scoped);
+      get = lookup.findVirtual(scopedClass, "get", MethodType.methodType(Object.class))
+          .bindTo(scoped);
+      where = lookup.findStatic(scopedClass, "where",
+          MethodType.methodType(carrierClass, scopedClass, Object.class))
+          .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+      run = lookup.findVirtual(carrierClass, "run", MethodType.methodType(void.class, Runnable.class))
+          .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+      //a preview ScopedValue which isn't enabled fails here
+      Object probe = new Object();
+      Object[] bound = new Object[1];
+      MethodHandle probeGet = get;
+      MethodHandle probeIsBound = isBound;
+      run.invoke(where.invoke(scoped, probe), (Runnable) () -> {
+        try {
+          bound[0] = (boolean) probeIsBound.invoke() ? probeGet.invoke() : null;
+        } catch (Throwable x) {
+          throw rethrow(x);
+        }
+      });
+      if (bound[0] != probe || (boolean) isBound.invoke()) {
+        throw new IllegalStateException(SCOPED_VALUE_UNAVAILABLE);
+      }
+    } catch (Throwable x) {
+      scoped = null;
+      failure = x;
+    }
+    SCOPED_FAILURE = failure;
+    if (scoped == null) {
+      GET = null;
+      IS_BOUND = null;
+      LOCAL = new ThreadLocal<>();
+      RUN = null;
+      SCOPED = null;
+      WHERE = null;
+    } else {
+      GET = get;
+      IS_BOUND = isBound;
+      LOCAL = null;
+      RUN = run;
+      SCOPED = scoped;
+      WHERE = where;
+    }
+  }
+
+  /**
+   * This calls the callable with the ctx as the current context.
+   * @param <T>
+   * @param ctx
+   * @param callable
+   * @return the callable's result
+   * @throws Exception from the callable
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T call(I_JseCtx ctx, Callable<T> callable) throws Exception {
+    Check.notNull(callable);
+    Object[] result = new Object[2];
+    run(ctx, () -> {
+      try {
+        result[0] = callable.call();
+      } catch (Exception x) {
+        result[1] = x;
+      }
+    });
+    if (result[1] != null) {
+      throw (Exception) result[1];
+    }
+    return (T) result[0];
+  }
+
+  /**
+   * @return the current context or null if none is bound
+   */
+  public static I_JseCtx get() {
+    if (SCOPED == null) {
+      return LOCAL.get();
+    }
+    try {
+      if (!(boolean) IS_BOUND.invokeExact()) {
+        return null;
+      }
+      Object r = (Object) GET.invokeExact();
+      return (I_JseCtx) r;
+    } catch (Throwable x) {
+      throw rethrow(x);
+    }
+  }
+
+  /**
+   * @return true if the binding is a ScopedValue, false if it is a
+   * ThreadLocal
+   */
+  public static boolean isScoped() {
+    return SCOPED != null;
+  }
+
+  /**
+   * @return why the binding fell back to a ThreadLocal (i.e. a
+   * ClassNotFoundException before JDK 21), or null if it is a ScopedValue
+   */
+  public static Throwable getScopedFailure() {
+    return SCOPED_FAILURE;
+  }
+
+  /**
+   * @return the current context
+   * @throws IllegalStateException if none is bound
+   */
+  public static I_JseCtx require() {
+    I_JseCtx r = get();
+    if (r == null) {
+      throw new IllegalStateException(NO_CURRENT_CTX);
+    }
+    return r;
+  }
+
+  /**
+   * This is for code which relies on the ScopedValue binding, i.e. to share
+   * the context with a StructuredTaskScope's subtasks.
+   * @throws IllegalStateException with the cause, if the binding fell back
+   * to a ThreadLocal
+   */
+  public static void requireScoped() {
+    if (SCOPED == null) {
+      throw new IllegalStateException(SCOPED_VALUE_UNAVAILABLE, SCOPED_FAILURE);
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable x) {
+    if (x instanceof RuntimeException) {
+      throw (RuntimeException) x;
+    } else if (x instanceof Error) {
+      throw (Error) x;
+    }
+    throw new IllegalStateException(x);
+  }
+
+  /**
+   * This runs the runnable with the ctx as the current context.
+   * @param ctx
+   * @param runnable
+   */
+  public static void run(I_JseCtx ctx, Runnable runnable) {
+    Check.notNull(ctx);
+    Check.notNull(runnable);
+    if (SCOPED == null) {
+      I_JseCtx previous = LOCAL.get();
+      LOCAL.set(ctx);
+      try {
+        runnable.run();
+      } finally {
+        if (previous == null) {
+          LOCAL.remove();
+        } else {
+          LOCAL.set(previous);
+        }
+      }
+      return;
+    }
+    try {
+      Object carrier = (Object) WHERE.invokeExact(SCOPED, (Object) ctx);
+      RUN.invokeExact(carrier, runnable);
+    } catch (Throwable x) {
+      throw rethrow(x);
+    }
+  }
+
+  /**
+   * This captures the current context, for a task which will run on a
+   * another thread.
+   * @param <T>
+   * @param callable
+   * @return callable itself when there is no current context
+   */
+  public static <T> Callable<T> wrap(Callable<T> callable) {
+    Check.notNull(callable);
+    I_JseCtx ctx = get();
+    if (ctx == null) {
+      return callable;
+    }
+    return () -> call(ctx, callable);
+  }
+
+  /**
+   * This captures the current context, for a task which will run on a
+   * another thread.
+   * @param runnable
+   * @return runnable itself when there is no current context
+   */
+  public static Runnable wrap(Runnable runnable) {
+    Check.notNull(runnable);
+    I_JseCtx ctx = get();
+    if (ctx == null) {
+      return runnable;
+    }
+    return () -> run(ctx, runnable);
+  }
+
+  private CurrentCtx() {
+  }
+}
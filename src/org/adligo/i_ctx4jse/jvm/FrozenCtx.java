@@ -0,0 +1,270 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This is a immutable snapshot of a context's singletons, from
+ * {@link ClassValueCtx#freeze()}.  The classes and instances are interleaved
+ * in one flat array, indexed by a perfect hash of the class names hash codes
+ * (cached by String), which is found when the snapshot is made.  The hash is a
+ * single multiply and shift when a small enough table can be found, otherwise
+ * it is two level (hash and displace) with one more multiply and load.  So
+ * a lookup is a few plain (final field) loads, without any lock or volatile
+ * read.  Lookups of classes which are NOT in the snapshot, and create, fall
+ * back to the source context.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public final class FrozenCtx implements I_JseCtx {
+  private static final int BUCKET_MULTIPLIER = 0x9E3779B9;
+  private static final int DISPLACEMENT_STEP = 0x7F4A7C15;
+  /**
+   * single level tables may use up to this many slots per class (or 256)
+   */
+  private static final int MAX_SINGLE_LEVEL_LOAD = 4;
+  private static final int SLOT_MULTIPLIER = 0x85EBCA6B;
+  /**
+   * the multipliers (or displacements for a bucket) tried before the table
+   * size is doubled
+   */
+  private static final int TRIES = 1 << 12;
+
+  /**
+   * @return the number of bits needed for a power of two &gt;= size
+   */
+  private static int bits(int size) {
+    return 32 - Integer.numberOfLeadingZeros(size - 1);
+  }
+
+  private static int hash(Class<?> clazz) {
+    return clazz.getName().hashCode();
+  }
+
+  /**
+   * This puts the classes in the table, or removes them and returns false if
+   * any of their slots is taken.
+   */
+  private static boolean tryPut(Class<?>[] classes, Object[] instances, int[] hashes,
+      List<Integer> keys, int displacement, int multiplier, int shift, Object[] table) {
+    for (int i = 0; i < keys.size(); i++) {
+      int slot = slot(hashes[keys.get(i)], displacement, multiplier, shift);
+      if (table[slot] != null) {
+        for (int j = 0; j < i; j++) {
+          int placed = slot(hashes[keys.get(j)], displacement, multiplier, shift);
+          table[placed] = null;
+          table[placed + 1] = null;
+        }
+        return false;
+      }
+      table[slot] = classes[keys.get(i)];
+      table[slot + 1] = instances[keys.get(i)];
+    }
+    return true;
+  }
+
+  private static int slot(int hash, int displacement, int multiplier, int shift) {
+    return (((hash ^ displacement) * multiplier) >>> shift) << 1;
+  }
+
+  private final int bucketShift;
+  /**
+   * per bucket, chosen so the bucket's classes land in empty slots, or null
+   * for a single level table
+   */
+  private final int[] displacements;
+  private final int multiplier;
+  private final int slotShift;
+  private final I_JseCtx source;
+  /**
+   * class, instance, class, instance ...
+   */
+  private final Object[] table;
+
+  FrozenCtx(I_JseCtx source, Class<?>[] classes, Object[] instances) {
+    this.source = Check.notNull(source);
+    int[] hashes = new int[classes.length];
+    //a hash code may repeat (i.e. the same name in two class loaders),
+    //those classes are left to the source
+    Map<Integer, Integer> unique = new LinkedHashMap<>();
+    for (int i = 0; i < classes.length; i++) {
+      hashes[i] = hash(classes[i]);
+      unique.putIfAbsent(hashes[i], i);
+    }
+    List<Integer> keys = new ArrayList<>(unique.values());
+    //at least 2 slots, since a int shift of 32 is a shift of 0
+    int minBits = bits(Math.max(2, keys.size() * 2));
+    int maxSingleBits = bits(Math.max(256, keys.size() * MAX_SINGLE_LEVEL_LOAD));
+    for (int bits = minBits; bits <= maxSingleBits; bits++) {
+      Object[] t = new Object[2 << bits];
+      for (int i = 0; i < TRIES; i++) {
+        //odd multipliers along the golden ratio sequence
+        int m = (BUCKET_MULTIPLIER * (i + 1)) | 1;
+        if (tryPut(classes, instances, hashes, keys, 0, m, 32 - bits, t)) {
+          bucketShift = 0;
+          displacements = null;
+          multiplier = m;
+          slotShift = 32 - bits;
+          table = t;
+          return;
+        }
+      }
+    }
+    //about two classes per bucket
+    int bucketBits = bits(Math.max(2, keys.size() / 2));
+    bucketShift = 32 - bucketBits;
+    displacements = new int[1 << bucketBits];
+    multiplier = SLOT_MULTIPLIER;
+    int bits = minBits;
+    Object[] t = null;
+    while (t == null) {
+      t = place(classes, instances, hashes, keys, bits);
+      if (t == null) {
+        bits++;
+      }
+    }
+    slotShift = 32 - bits;
+    table = t;
+  }
+
+  private int bucket(int hash) {
+    return (hash * BUCKET_MULTIPLIER) >>> bucketShift;
+  }
+
+  /**
+   * This places the largest buckets first, finding a displacement for each.
+   * @return the table or null if a displacement wasn't found
+   */
+  private Object[] place(Class<?>[] classes, Object[] instances, int[] hashes, List<Integer> keys,
+      int bits) {
+    List<List<Integer>> buckets = new ArrayList<>();
+    for (int i = 0; i < displacements.length; i++) {
+      buckets.add(new ArrayList<>());
+    }
+    for (int key : keys) {
+      buckets.get(bucket(hashes[key])).add(key);
+    }
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < displacements.length; i++) {
+      if (!buckets.get(i).isEmpty()) {
+        order.add(i);
+      }
+    }
+    order.sort((a, b) -> buckets.get(b).size() - buckets.get(a).size());
+    int shift = 32 - bits;
+    Object[] r = new Object[2 << bits];
+    for (int b : order) {
+      List<Integer> bucket = buckets.get(b);
+      boolean placed = false;
+      for (int d = 0; d < TRIES && !placed; d++) {
+        int displacement = d * DISPLACEMENT_STEP;
+        if (tryPut(classes, instances, hashes, bucket, displacement, multiplier, shift, r)) {
+          displacements[b] = displacement;
+          placed = true;
+        }
+      }
+      if (!placed) {
+        return null;
+      }
+    }
+    return r;
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz) {
+    return source.create(clazz);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    return source.create(clazz, leaf);
+  }
+
+  @Override
+  public Object create(String name) {
+    return source.create(name);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T get(Class<T> clazz) {
+    int hash = hash(clazz);
+    int[] d = displacements;
+    int slot = slot(hash, d == null ? 0 : d[bucket(hash)], multiplier, slotShift);
+    Object[] t = table;
+    if (t[slot] == clazz) {
+      return (T) t[slot + 1];
+    }
+    return source.get(clazz);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T get(Class<T> clazz, I_JseCtx leaf) {
+    int hash = hash(clazz);
+    int[] d = displacements;
+    int slot = slot(hash, d == null ? 0 : d[bucket(hash)], multiplier, slotShift);
+    Object[] t = table;
+    if (t[slot] == clazz) {
+      return (T) t[slot + 1];
+    }
+    return source.get(clazz, leaf);
+  }
+
+  @Override
+  public Object get(String name) {
+    return get(ClassValueCtx.forName(name));
+  }
+
+  @Override
+  public long getNanoTime() {
+    return source.getNanoTime();
+  }
+
+  /**
+   * @return the number of classes in the snapshot
+   */
+  public int getSize() {
+    int r = 0;
+    for (int i = 0; i < table.length; i += 2) {
+      if (table[i] != null) {
+        r++;
+      }
+    }
+    return r;
+  }
+
+  public I_JseCtx getSource() {
+    return source;
+  }
+
+  @Override
+  public long getTime() {
+    return source.getTime();
+  }
+}
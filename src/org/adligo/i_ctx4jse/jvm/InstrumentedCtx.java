@@ -0,0 +1,252 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCreator;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This is a decorating {@link I_JseCtx} which records per class lookup
+ * counts ({@link #get(Class)} and {@link #create(Class)}), and contention
+ * events (gets of a class which overlapped another thread's creation of it,
+ * so they probably waited for it).  Since
+ * only the {@link I_JseCreator} sees the instances being created, the
+ * creations and their latency are recorded by {@link #instrument(I_JseCreator)},
+ * which the two argument constructor wires in i.e.;<br/>
+ * new InstrumentedCtx(ClassValueCtx::new, new MethodHandleCreator())<br/>
+ * The creation latency is recorded in a {@link LatencyHistogram}, per class
+ * (with the first creation's latency), and as a {@link CtxCreationEvent}.
+ * See {@link #dump()}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class InstrumentedCtx extends DelegatingJseCtx {
+
+  /**
+   * the counts for one class
+   */
+  public static class ClassStats {
+    private final Class<?> clazz;
+    private final LongAdder contention = new LongAdder();
+    private final AtomicInteger creating = new AtomicInteger();
+    private final AtomicLong creations = new AtomicLong();
+    private volatile Thread creator;
+    private final AtomicLong firstCreationNanos = new AtomicLong(-1);
+    private final LongAdder lookups = new LongAdder();
+
+    ClassStats(Class<?> clazz) {
+      this.clazz = clazz;
+    }
+
+    public Class<?> getClazz() {
+      return clazz;
+    }
+
+    public long getContention() {
+      return contention.sum();
+    }
+
+    public long getCreations() {
+      return creations.get();
+    }
+
+    /**
+     * @return the nanoseconds taken by the first creation or -1
+     */
+    public long getFirstCreationNanos() {
+      return firstCreationNanos.get();
+    }
+
+    public long getLookups() {
+      return lookups.sum();
+    }
+  }
+
+  /**
+   * a immutable copy of the counts, for {@link #dump()}
+   */
+  private static final class Row {
+    private final String className;
+    private final long contention;
+    private final long creations;
+    private final long firstCreationNanos;
+    private final long lookups;
+
+    Row(ClassStats s) {
+      className = s.clazz.getName();
+      contention = s.getContention();
+      creations = s.getCreations();
+      firstCreationNanos = s.getFirstCreationNanos();
+      lookups = s.getLookups();
+    }
+  }
+
+  private final ConcurrentHashMap<Class<?>, ClassStats> classes = new ConcurrentHashMap<>();
+  private final LatencyHistogram creationLatency = new LatencyHistogram();
+  private final ClassValue<ClassStats> stats = new ClassValue<ClassStats>() {
+
+    @Override
+    protected ClassStats computeValue(Class<?> type) {
+      return classes.computeIfAbsent(type, ClassStats::new);
+    }
+  };
+
+  /**
+   * This only records the lookups and contention, creations made by the
+   * delegate's creator are NOT seen.
+   * @param delegate
+   */
+  public InstrumentedCtx(I_JseCtx delegate) {
+    super(delegate);
+  }
+
+  /**
+   * @param ctxFactory creates the delegate from the instrumented creator
+   * @param creator
+   */
+  public InstrumentedCtx(Function<I_JseCreator, ? extends I_JseCtx> ctxFactory,
+      I_JseCreator creator) {
+    this(ctxFactory, new InstrumentedCreator(null, creator));
+  }
+
+  private InstrumentedCtx(Function<I_JseCreator, ? extends I_JseCtx> ctxFactory,
+      InstrumentedCreator creator) {
+    super(ctxFactory.apply(creator));
+    creator.instrumented = this;
+  }
+
+  /**
+   * This may be created before the InstrumentedCtx, by the two argument
+   * constructor, so creations made before it is set aren't recorded.
+   */
+  private static class InstrumentedCreator implements I_JseCreator {
+    private final I_JseCreator creator;
+    private volatile InstrumentedCtx instrumented;
+
+    InstrumentedCreator(InstrumentedCtx instrumented, I_JseCreator creator) {
+      this.instrumented = instrumented;
+      this.creator = Check.notNull(creator);
+    }
+
+    @Override
+    public <T> T create(Class<T> clazz, I_JseCtx ctx) {
+      InstrumentedCtx i = instrumented;
+      if (i == null) {
+        return creator.create(clazz, ctx);
+      }
+      return i.createRecorded(creator, clazz, ctx);
+    }
+  }
+
+  private <T> T createRecorded(I_JseCreator creator, Class<T> clazz, I_JseCtx ctx) {
+    ClassStats s = stats.get(clazz);
+    CtxCreationEvent event = new CtxCreationEvent();
+    event.begin();
+    s.creator = Thread.currentThread();
+    s.creating.incrementAndGet();
+    long start = System.nanoTime();
+    try {
+      return creator.create(clazz, ctx);
+    } finally {
+      long nanos = System.nanoTime() - start;
+      s.creations.incrementAndGet();
+      s.creating.decrementAndGet();
+      s.firstCreationNanos.compareAndSet(-1, nanos);
+      creationLatency.record(nanos);
+      if (event.shouldCommit()) {
+        event.className = clazz.getName();
+        event.commit();
+      }
+    }
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    stats.get(clazz).lookups.increment();
+    return super.create(clazz, leaf);
+  }
+
+  /**
+   * @return a table of the classes sorted by first creation latency
+   * (slowest first), with the creation latency percentiles
+   */
+  public String dump() {
+    //the counts are copied first, since they may change while sorting
+    List<Row> rows = new ArrayList<>();
+    for (ClassStats s : classes.values()) {
+      rows.add(new Row(s));
+    }
+    rows.sort(Comparator.comparingLong((Row r) -> r.firstCreationNanos).reversed());
+    StringBuilder sb = new StringBuilder(128 + rows.size() * 96);
+    String lineSeparator = System.lineSeparator();
+    sb.append("creation latency nanos ").append(creationLatency).append(lineSeparator);
+    sb.append("firstCreationNanos\tcreations\tlookups\tcontention\tclass").append(lineSeparator);
+    for (Row r : rows) {
+      sb.append(r.firstCreationNanos).append('\t').append(r.creations).append('\t')
+          .append(r.lookups).append('\t').append(r.contention).append('\t')
+          .append(r.className).append(lineSeparator);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public <T> T get(Class<T> clazz, I_JseCtx leaf) {
+    ClassStats s = stats.get(clazz);
+    s.lookups.increment();
+    long creations = s.creations.get();
+    boolean creating = s.creating.get() > 0;
+    T r = super.get(clazz, leaf);
+    if ((creating || s.creations.get() != creations) && s.creator != Thread.currentThread()) {
+      s.contention.increment();
+    }
+    return r;
+  }
+
+  /**
+   * @return a copy of the per class stats
+   */
+  public List<ClassStats> getClassStats() {
+    return new ArrayList<>(classes.values());
+  }
+
+  public LatencyHistogram getCreationLatency() {
+    return creationLatency;
+  }
+
+  /**
+   * @param creator
+   * @return a creator which records it's creations in this
+   */
+  public I_JseCreator instrument(I_JseCreator creator) {
+    return new InstrumentedCreator(this, creator);
+  }
+}
@@ -0,0 +1,130 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This is a lock free, log linear (HDR style) histogram of nanosecond
+ * latencies.  Each power of two range is split into {@link #SUB_BUCKETS}
+ * linear buckets, so values are recorded with about 6% precision in a fixed
+ * {@link AtomicLongArray}, without any allocation or lock.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class LatencyHistogram {
+  public static final int SUB_BITS = 4;
+  public static final int SUB_BUCKETS = 1 << SUB_BITS;
+  private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+  /**
+   * @param value a non negative value
+   * @return the index of the bucket
+   */
+  static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int magnitude = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return (magnitude - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * @param index
+   * @return the smallest value in the bucket
+   */
+  static long lowest(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int magnitude = index / SUB_BUCKETS + SUB_BITS - 1;
+    long sub = index & (SUB_BUCKETS - 1);
+    return (1L << magnitude) | (sub << (magnitude - SUB_BITS));
+  }
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong max = new AtomicLong();
+
+  public long getCount() {
+    long r = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      r += counts.get(i);
+    }
+    return r;
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @param percentile from 0.0 to 100.0
+   * @return the lowest value of the bucket containing the percentile, or 0
+   * if nothing was recorded
+   */
+  public long getPercentile(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= target) {
+        return lowest(i);
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * @param nanos negative values are recorded as 0
+   */
+  public void record(long nanos) {
+    long v = Math.max(0, nanos);
+    counts.incrementAndGet(index(v));
+    long m = max.get();
+    while (v > m && !max.compareAndSet(m, v)) {
+      m = max.get();
+    }
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    max.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyHistogram [count=" + getCount() + ", p50=" + getPercentile(50)
+        + ", p90=" + getPercentile(90) + ", p99=" + getPercentile(99) + ", max=" + getMax() + "]";
+  }
+}
@@ -0,0 +1,143 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.RacyLazy;
+
+/**
+ * This creates a {@link Proxy} of a interface, which resolves the instance
+ * through {@link I_JseCtx#get(Class)} on the first method call (other than
+ * equals and hashCode which use the proxy's identity), so that it can be
+ * injected in place of the instance without building it.<br/>
+ * Each call still goes through the proxy's InvocationHandler (with it's
+ * argument array and boxing), using a MethodHandle which is resolved once per
+ * Method, so this is for cold paths; hot callers should hold a
+ * {@link org.adligo.i_ctx4jse.shared.Lazy} or {@link RacyLazy} instead.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class LazyProxy implements InvocationHandler {
+  public static final String THE_CLASS_MUST_BE_A_INTERFACE = "The class must be a interface!";
+
+  /**
+   * The (Object, Object []) Object handles of each declaring class's methods,
+   * which are dropped with the class.
+   */
+  private static final ClassValue<ConcurrentHashMap<Method, MethodHandle>> HANDLES =
+      new ClassValue<ConcurrentHashMap<Method, MethodHandle>>() {
+
+        @Override
+        protected ConcurrentHashMap<Method, MethodHandle> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * @param method
+   * @return the handle of the method, which spreads it's arguments from a
+   * array
+   */
+  static MethodHandle handle(Method method) {
+    return HANDLES.get(method.getDeclaringClass()).computeIfAbsent(method, LazyProxy::unreflect);
+  }
+
+  /**
+   * @param proxy
+   * @return true if the proxy's instance has been resolved
+   */
+  public static boolean isResolved(Object proxy) {
+    return ((LazyProxy) Proxy.getInvocationHandler(proxy)).lazy.isResolved();
+  }
+
+  /**
+   * @param <T>
+   * @param ctx
+   * @param iface the interface, which get is called with
+   * @return the proxy
+   */
+  public static <T> T proxy(I_JseCtx ctx, Class<T> iface) {
+    return proxy(ctx, iface, iface);
+  }
+
+  /**
+   * @param <T>
+   * @param ctx
+   * @param iface
+   * @param clazz the class, which get is called with
+   * @return the proxy
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T proxy(I_JseCtx ctx, Class<T> iface, Class<? extends T> clazz) {
+    if (!Check.notNull(iface).isInterface()) {
+      throw new IllegalArgumentException(THE_CLASS_MUST_BE_A_INTERFACE
+          + System.lineSeparator() + iface.getName());
+    }
+    return (T) Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] { iface },
+        new LazyProxy(new RacyLazy<>(ctx, clazz)));
+  }
+
+  private static MethodHandle unreflect(Method method) {
+    MethodHandle mh;
+    try {
+      mh = MethodHandles.publicLookup().unreflect(method);
+    } catch (IllegalAccessException x) {
+      //a non public interface
+      method.setAccessible(true);
+      try {
+        mh = MethodHandles.lookup().unreflect(method);
+      } catch (IllegalAccessException y) {
+        throw new IllegalStateException(y);
+      }
+    }
+    return mh.asType(mh.type().generic())
+        .asSpreader(Object[].class, method.getParameterCount());
+  }
+
+  private final RacyLazy<?> lazy;
+
+  LazyProxy(RacyLazy<?> lazy) {
+    this.lazy = lazy;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+      }
+    }
+    //a null args is a empty array to asSpreader
+    return (Object) handle(method).invokeExact(lazy.get(), args);
+  }
+}
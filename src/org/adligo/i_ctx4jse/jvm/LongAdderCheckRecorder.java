@@ -0,0 +1,209 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.adligo.i_ctx4jse.shared.CheckMetrics;
+import org.adligo.i_ctx4jse.shared.I_CheckRecorder;
+
+/**
+ * This is a {@link I_CheckRecorder} which counts the assertions and failures
+ * per caller supplied tag (a thread local, see {@link #tagged(String, Runnable)})
+ * and assertion type, in striped {@link LongAdder}s so that threads recording
+ * the same type don't contend.  The counts are available from
+ * {@link #snapshot()} or JMX after {@link #register()}.<br/>
+ * Remember to set the org.adligo.i_ctx4jse.checkMetrics system property, see
+ * {@link CheckMetrics}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class LongAdderCheckRecorder implements I_CheckRecorder, CheckRecorderMXBean {
+  public static final String NO_TAG = "";
+  public static final String OBJECT_NAME = "org.adligo.i_ctx4jse:type=CheckRecorder";
+
+  private static class Counters {
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+  }
+
+  private final ConcurrentHashMap<String, ConcurrentHashMap<String, Counters>> tags =
+      new ConcurrentHashMap<>();
+  private final ThreadLocal<String> tag = ThreadLocal.withInitial(() -> NO_TAG);
+
+  @Override
+  public void check(String type) {
+    counters(type).checks.increment();
+  }
+
+  private Counters counters(String type) {
+    String t = tag.get();
+    ConcurrentHashMap<String, Counters> types = tags.get(t);
+    if (types == null) {
+      types = tags.computeIfAbsent(t, (k) -> new ConcurrentHashMap<>());
+    }
+    Counters r = types.get(type);
+    if (r == null) {
+      r = types.computeIfAbsent(type, (k) -> new Counters());
+    }
+    return r;
+  }
+
+  @Override
+  public void failure(String type) {
+    counters(type).failures.increment();
+  }
+
+  @Override
+  public long getCheckCount() {
+    long r = 0;
+    for (CheckCount c : snapshot()) {
+      r += c.getChecks();
+    }
+    return r;
+  }
+
+  @Override
+  public Map<String, Long> getChecks() {
+    Map<String, Long> r = new TreeMap<>();
+    for (CheckCount c : snapshot()) {
+      r.put(key(c), c.getChecks());
+    }
+    return r;
+  }
+
+  @Override
+  public long getFailureCount() {
+    long r = 0;
+    for (CheckCount c : snapshot()) {
+      r += c.getFailures();
+    }
+    return r;
+  }
+
+  @Override
+  public Map<String, Long> getFailures() {
+    Map<String, Long> r = new TreeMap<>();
+    for (CheckCount c : snapshot()) {
+      r.put(key(c), c.getFailures());
+    }
+    return r;
+  }
+
+  /**
+   * @return the current threads tag or {@link #NO_TAG}
+   */
+  public String getTag() {
+    return tag.get();
+  }
+
+  /**
+   * This sets this recorder as the {@link CheckMetrics} recorder.
+   * @return this
+   */
+  public LongAdderCheckRecorder install() {
+    CheckMetrics.setRecorder(this);
+    return this;
+  }
+
+  private String key(CheckCount c) {
+    if (NO_TAG.equals(c.getTag())) {
+      return c.getType();
+    }
+    return c.getTag() + ":" + c.getType();
+  }
+
+  /**
+   * This registers this recorder with the platform MBean server as
+   * {@link #OBJECT_NAME}.
+   * @return this
+   */
+  public LongAdderCheckRecorder register() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(this, name);
+    } catch (JMException x) {
+      throw new IllegalStateException(x);
+    }
+    return this;
+  }
+
+  /**
+   * This resets each counter in place (the tags and types are kept), so an
+   * increment on a Counters which another thread already fetched is counted
+   * either before or after the reset, instead of being lost with a dropped map.
+   * The reset is per counter, so it isn't atomic with respect to
+   * {@link #snapshot()}.
+   */
+  @Override
+  public void reset() {
+    for (ConcurrentHashMap<String, Counters> types : tags.values()) {
+      for (Counters c : types.values()) {
+        c.checks.sumThenReset();
+        c.failures.sumThenReset();
+      }
+    }
+  }
+
+  /**
+   * @return the counts sorted by tag and type
+   */
+  public List<CheckCount> snapshot() {
+    List<CheckCount> r = new ArrayList<>();
+    for (Map.Entry<String, ConcurrentHashMap<String, Counters>> t : new TreeMap<>(tags).entrySet()) {
+      for (Map.Entry<String, Counters> e : new TreeMap<>(t.getValue()).entrySet()) {
+        Counters c = e.getValue();
+        r.add(new CheckCount(t.getKey(), e.getKey(), c.checks.sum(), c.failures.sum()));
+      }
+    }
+    return r;
+  }
+
+  /**
+   * This sets the tag for the assertions recorded by the runnable (on the
+   * current thread), restoring the previous tag afterwards.
+   * @param tag
+   * @param runnable
+   */
+  public void tagged(String tag, Runnable runnable) {
+    String previous = this.tag.get();
+    this.tag.set(tag == null ? NO_TAG : tag);
+    try {
+      runnable.run();
+    } finally {
+      this.tag.set(previous);
+    }
+  }
+}
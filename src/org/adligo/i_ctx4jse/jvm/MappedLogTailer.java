@@ -0,0 +1,168 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.adligo.i_ctx4jse.shared.Check;
+
+/**
+ * This reads (tails) the segments written by {@link MappedPrintCtx}, from
+ * the first existing segment.  Each {@link #poll()} returns the text written
+ * up to each segment's committed position since the last poll, moving to the
+ * next segment once it exists (or the first existing one after it, if the
+ * writer deleted the segments in between).  It may also
+ * be run from the command line;<br/>
+ * java org.adligo.i_ctx4jse.jvm.MappedLogTailer directory prefix
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MappedLogTailer {
+  public static final long POLL_MILLIS = 200;
+  public static final String USAGE = "Usage: java org.adligo.i_ctx4jse.jvm.MappedLogTailer directory prefix";
+
+  public static void main(String[] args) throws InterruptedException {
+    if (args.length != 2) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    MappedLogTailer tailer = new MappedLogTailer(Paths.get(args[0]), args[1]);
+    while (true) {
+      String text = tailer.poll();
+      if (text.isEmpty()) {
+        Thread.sleep(POLL_MILLIS);
+      } else {
+        System.out.print(text);
+      }
+    }
+  }
+
+  private final CharBuffer chars = CharBuffer.allocate(ChannelPrintCtx.CHAR_BUFFER_SIZE);
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private final Path directory;
+  private final String prefix;
+  private long index = -1;
+  private MappedByteBuffer segment;
+
+  public MappedLogTailer(Path directory, String prefix) {
+    this.directory = Check.notNull(directory);
+    this.prefix = Check.notEmpty(prefix);
+  }
+
+  /**
+   * @return the index of the segment being read, or -1 before the first
+   * segment exists
+   */
+  public long getSegmentIndex() {
+    return index;
+  }
+
+  private boolean map(long i) {
+    Path file = MappedPrintCtx.segment(directory, prefix, i);
+    if (!Files.exists(file)) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      //the previous segment's mapping is released to the garbage collector
+      segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      segment.position(MappedPrintCtx.HEADER_SIZE);
+      index = i;
+      return true;
+    } catch (NoSuchFileException x) {
+      //deleted by the writer's retention
+      return false;
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+  }
+
+  /**
+   * @return the text written since the last poll, or a empty String
+   */
+  public String poll() {
+    if (segment == null) {
+      long[] existing = MappedPrintCtx.indexes(directory, prefix);
+      if (existing.length == 0 || !map(existing[0])) {
+        return "";
+      }
+    }
+    StringBuilder sb = new StringBuilder();
+    while (true) {
+      //the writer only creates the next segment after this one is full,
+      //so this one is read again before moving on
+      long next = next();
+      read(sb);
+      if (next == -1) {
+        return sb.toString();
+      }
+      if (!map(next)) {
+        //deleted between the check and the map
+        continue;
+      }
+      decoder.reset();
+    }
+  }
+
+  /**
+   * @return the index of the segment after this one, or -1
+   */
+  private long next() {
+    if (Files.exists(MappedPrintCtx.segment(directory, prefix, index + 1))) {
+      return index + 1;
+    }
+    for (long i : MappedPrintCtx.indexes(directory, prefix)) {
+      if (i > index) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void read(StringBuilder sb) {
+    int end = MappedPrintCtx.committed(segment);
+    int limit = segment.limit();
+    segment.limit(end);
+    int start = -1;
+    //an incomplete multi byte char at the end is left for the next poll
+    while (segment.position() < end && segment.position() != start) {
+      start = segment.position();
+      decoder.decode(segment, chars, false);
+      chars.flip();
+      sb.append(chars);
+      chars.clear();
+    }
+    segment.limit(limit);
+  }
+}
@@ -0,0 +1,260 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_PrintCtx;
+
+/**
+ * This is a {@link I_PrintCtx} for high volume diagnostics, which encodes
+ * (UTF-8) the messages directly into a {@link MappedByteBuffer} segment file,
+ * so that a println costs a memory copy instead of a system call.  When a
+ * segment is full the next segment is created and mapped, and flushing is left
+ * to the operating system's page cache.<br/>
+ * The segments are named prefix.0000000000.log, prefix.0000000001.log etc, a
+ * new instance starts after the last existing segment. Each segment starts
+ * with a {@link #HEADER_SIZE} byte header holding the committed position, the
+ * end of the bytes of the completed messages, which is published (with
+ * release semantics) after each print, so readers never depend on the
+ * unwritten (zero) end of the segment.  Only the last retainedSegments
+ * segments are kept, older ones are deleted as new ones are created, and a
+ * full segment's mapping is released to the garbage collector.
+ * See {@link MappedLogTailer} to read them.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MappedPrintCtx extends DelegatingJseCtx implements I_PrintCtx {
+  public static final int DEFAULT_RETAINED_SEGMENTS = 8;
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+  /**
+   * the committed position (a big endian int) and 4 reserved bytes
+   */
+  public static final int HEADER_SIZE = 8;
+  public static final String SEGMENT_SUFFIX = ".log";
+  public static final String TMP_SUFFIX = ".tmp";
+  private static final int INDEX_DIGITS = 10;
+  private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class,
+      ByteOrder.BIG_ENDIAN);
+
+  /**
+   * @param segment
+   * @return the committed position of the segment
+   */
+  static int committed(MappedByteBuffer segment) {
+    return (int) INT.getAcquire(segment, 0);
+  }
+
+  /**
+   * @param directory
+   * @param prefix
+   * @return the indexes of the existing segments in ascending order
+   */
+  static long[] indexes(Path directory, String prefix) {
+    long[] r = new long[0];
+    String start = prefix + '.';
+    //a filter instead of a glob, so the prefix needs no escaping
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, (p) -> {
+      String name = p.getFileName().toString();
+      return name.length() == start.length() + INDEX_DIGITS + SEGMENT_SUFFIX.length()
+          && name.startsWith(start) && name.endsWith(SEGMENT_SUFFIX);
+    })) {
+      for (Path p : paths) {
+        String name = p.getFileName().toString();
+        String index = name.substring(prefix.length() + 1, name.length() - SEGMENT_SUFFIX.length());
+        if (index.chars().allMatch(Character::isDigit)) {
+          r = Arrays.copyOf(r, r.length + 1);
+          r[r.length - 1] = Long.parseLong(index);
+        }
+      }
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+    Arrays.sort(r);
+    return r;
+  }
+
+  static Path segment(Path directory, String prefix, long index) {
+    StringBuilder sb = new StringBuilder(prefix.length() + INDEX_DIGITS + 5);
+    sb.append(prefix).append('.');
+    String digits = Long.toString(index);
+    for (int i = digits.length(); i < INDEX_DIGITS; i++) {
+      sb.append('0');
+    }
+    return directory.resolve(sb.append(digits).append(SEGMENT_SUFFIX).toString());
+  }
+
+  private final CharBuffer chars = CharBuffer.allocate(ChannelPrintCtx.CHAR_BUFFER_SIZE);
+  private final Path directory;
+  private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private final String lineSeparator = System.lineSeparator();
+  private final String prefix;
+  private final int retainedSegments;
+  private final int segmentSize;
+  /**
+   * guarded by this
+   */
+  private long index;
+  private MappedByteBuffer segment;
+
+  public MappedPrintCtx(I_JseCtx delegate, Path directory, String prefix) {
+    this(delegate, directory, prefix, DEFAULT_SEGMENT_SIZE, DEFAULT_RETAINED_SEGMENTS);
+  }
+
+  public MappedPrintCtx(I_JseCtx delegate, Path directory, String prefix, int segmentSize,
+      int retainedSegments) {
+    super(delegate);
+    this.directory = Check.notNull(directory);
+    this.prefix = Check.notEmpty(prefix);
+    //room for the header, a line separator and 4 byte char
+    this.segmentSize = Check.inRange(HEADER_SIZE + 16, Integer.MAX_VALUE, segmentSize);
+    this.retainedSegments = Check.isPositive(retainedSegments);
+    long[] existing = indexes(directory, prefix);
+    index = existing.length == 0 ? 0 : existing[existing.length - 1] + 1;
+    segment = map(index);
+    retain();
+  }
+
+  private void commit() {
+    INT.setRelease(segment, 0, segment.position());
+  }
+
+  private void encode(String message) {
+    int length = message.length();
+    int start = 0;
+    while (start < length) {
+      int end = Math.min(length, start + chars.remaining());
+      message.getChars(start, end, chars.array(), chars.arrayOffset() + chars.position());
+      chars.position(chars.position() + end - start);
+      start = end;
+      chars.flip();
+      while (encoder.encode(chars, segment, false).isOverflow()) {
+        roll();
+      }
+      //keeps a split surrogate pair for the next pass (or message)
+      chars.compact();
+    }
+  }
+
+  /**
+   * @return the index of the segment being written
+   */
+  public synchronized long getSegmentIndex() {
+    return index;
+  }
+
+  private MappedByteBuffer map(long i) {
+    Path file = segment(directory, prefix, i);
+    Path tmp = file.resolveSibling(file.getFileName() + TMP_SUFFIX);
+    MappedByteBuffer r;
+    try (FileChannel channel = FileChannel.open(tmp,
+        //truncates a tmp file left by a crash
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      //the mapping remains valid after the channel is closed
+      r = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+      r.putInt(0, HEADER_SIZE);
+      r.position(HEADER_SIZE);
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+    try {
+      //so readers never see a segment before it is full size
+      Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+    return r;
+  }
+
+  @Override
+  public I_PrintCtx print(Object message) {
+    return print(String.valueOf(message));
+  }
+
+  @Override
+  public synchronized I_PrintCtx print(String message) {
+    encode(String.valueOf(message));
+    commit();
+    return this;
+  }
+
+  @Override
+  public I_PrintCtx println(Object message) {
+    return println(String.valueOf(message));
+  }
+
+  @Override
+  public synchronized I_PrintCtx println(String message) {
+    encode(String.valueOf(message));
+    encode(lineSeparator);
+    commit();
+    return this;
+  }
+
+  /**
+   * This deletes the segments before the retained ones, a segment which can't
+   * be deleted (i.e. it's mapped by a reader on Windows) is tried again on the
+   * next roll.
+   */
+  private void retain() {
+    for (long i : indexes(directory, prefix)) {
+      if (i > index - retainedSegments) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(segment(directory, prefix, i));
+      } catch (IOException x) {
+        return;
+      }
+    }
+  }
+
+  private void roll() {
+    //the full segment's bytes are complete chars, so they are committed
+    //before the next segment exists
+    commit();
+    index++;
+    segment = map(index);
+    retain();
+  }
+}
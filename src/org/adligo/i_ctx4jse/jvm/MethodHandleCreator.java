@@ -0,0 +1,155 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.adligo.i_ctx4jse.shared.I_JseCreator;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+
+/**
+ * This creates instances by compiling each classes constructor once
+ * into a {@link Supplier} (bean classes) or a {@link Function} of the leaf most
+ * {@link I_JseCtx} ({@link I_JseCtxAware} classes) with the
+ * {@link LambdaMetafactory}.  The compiled factories are cached in a
+ * {@link ClassValue}, so that after warm up {@link #create(Class, I_JseCtx)}
+ * costs about the same as calling new directly.<br/>
+ * When a lambda can NOT be spun (i.e. the constructor isn't accessible to a
+ * full privilege lookup) the constructor's {@link MethodHandle} is invoked
+ * instead.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MethodHandleCreator implements I_JseCreator {
+  private static final MethodType BEAN_CONSTRUCTOR = MethodType.methodType(void.class);
+  private static final MethodType CTX_CONSTRUCTOR = MethodType.methodType(void.class, I_JseCtx.class);
+
+  /**
+   * A compiled constructor.
+   */
+  static interface Factory {
+    Object create(I_JseCtx ctx) throws Throwable;
+  }
+
+  static final class SupplierFactory implements Factory {
+    private final Supplier<?> supplier;
+
+    SupplierFactory(Supplier<?> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public Object create(I_JseCtx ctx) {
+      return supplier.get();
+    }
+  }
+
+  static final class FunctionFactory implements Factory {
+    private final Function<I_JseCtx, ?> function;
+
+    FunctionFactory(Function<I_JseCtx, ?> function) {
+      this.function = function;
+    }
+
+    @Override
+    public Object create(I_JseCtx ctx) {
+      return function.apply(ctx);
+    }
+  }
+
+  static final class HandleFactory implements Factory {
+    private final MethodHandle constructor;
+    private final boolean ctxAware;
+
+    HandleFactory(MethodHandle constructor, boolean ctxAware) {
+      this.constructor = constructor;
+      this.ctxAware = ctxAware;
+    }
+
+    @Override
+    public Object create(I_JseCtx ctx) throws Throwable {
+      if (ctxAware) {
+        return constructor.invoke(ctx);
+      }
+      return constructor.invoke();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static Factory compile(Class<?> clazz) {
+    boolean ctxAware = I_JseCtxAware.class.isAssignableFrom(clazz);
+    MethodType type = ctxAware ? CTX_CONSTRUCTOR : BEAN_CONSTRUCTOR;
+    MethodHandles.Lookup lookup;
+    MethodHandle constructor;
+    try {
+      lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+      constructor = lookup.findConstructor(clazz, type);
+    } catch (IllegalAccessException x) {
+      return new HandleFactory(findPublicConstructor(clazz, type), ctxAware);
+    } catch (NoSuchMethodException x) {
+      throw new IllegalArgumentException(ReflectionCreator.UNABLE_TO_CREATE + clazz.getName(), x);
+    }
+    try {
+      if (ctxAware) {
+        return new FunctionFactory((Function<I_JseCtx, ?>) LambdaMetafactory.metafactory(lookup, "apply",
+            MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+            constructor, MethodType.methodType(clazz, I_JseCtx.class)).getTarget().invoke());
+      }
+      return new SupplierFactory((Supplier<?>) LambdaMetafactory.metafactory(lookup, "get",
+          MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+          constructor, MethodType.methodType(clazz)).getTarget().invoke());
+    } catch (Throwable x) {
+      return new HandleFactory(constructor, ctxAware);
+    }
+  }
+
+  static MethodHandle findPublicConstructor(Class<?> clazz, MethodType type) {
+    try {
+      return MethodHandles.publicLookup().findConstructor(clazz, type);
+    } catch (NoSuchMethodException | IllegalAccessException x) {
+      throw new IllegalArgumentException(ReflectionCreator.UNABLE_TO_CREATE + clazz.getName(), x);
+    }
+  }
+
+  private final ClassValue<Factory> factories = new ClassValue<Factory>() {
+    @Override
+    protected Factory computeValue(Class<?> type) {
+      return compile(type);
+    }
+  };
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx ctx) {
+    try {
+      return (T) factories.get(clazz).create(ctx);
+    } catch (Throwable x) {
+      throw ReflectionCreator.rethrow(clazz, x);
+    }
+  }
+
+}
@@ -0,0 +1,249 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.CheckFailure;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.adligo.i_ctx4jse.shared.I_Recyclable;
+
+/**
+ * This is a decorating {@link I_JseCtx} which pools the instances of the
+ * {@link I_Recyclable} classes registered with {@link #pool(Class, int)}, so
+ * that {@link #create(Class)} hands out a recycled instance when one was
+ * {@link #release(I_Recyclable)}d on the same thread.  The pools are thread
+ * local (with a capped size) so they don't need any lock, however this means
+ * they only help when the thread is reused (i.e. NOT virtual thread per
+ * request).  Other classes are created by the delegate.<br/>
+ * {@link I_JseCtxAware} classes can NOT be pooled, since a recycled instance
+ * would keep the context (i.e. a ChildCtx or Scope) of the create which built
+ * it, instead of the next caller's leaf.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class PoolingCtx extends DelegatingJseCtx {
+  public static final String THE_INSTANCE_IS_ALREADY_POOLED = "The instance is already pooled!";
+  public static final String I_JSE_CTX_AWARE_CLASSES_CAN_NOT_BE_POOLED =
+      "I_JseCtxAware classes can not be pooled!";
+
+  /**
+   * The pool for one class, with it's counts.
+   */
+  public static class Pool {
+    private static final class Stack {
+      private final Object[] items;
+      private int size;
+
+      Stack(int maxSize) {
+        items = new Object[maxSize];
+      }
+    }
+
+    private final Class<?> clazz;
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final int maxSize;
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final ThreadLocal<Stack> stacks;
+
+    Pool(Class<?> clazz, int maxSize) {
+      this.clazz = clazz;
+      this.maxSize = maxSize;
+      stacks = ThreadLocal.withInitial(() -> new Stack(maxSize));
+    }
+
+    public Class<?> getClazz() {
+      return clazz;
+    }
+
+    /**
+     * @return the number of released instances which were NOT pooled,
+     * since the pool was full
+     */
+    public long getDiscarded() {
+      return discarded.sum();
+    }
+
+    public long getHits() {
+      return hits.sum();
+    }
+
+    /**
+     * @return hits / (hits + misses) or 0.0
+     */
+    public double getHitRate() {
+      long h = hits.sum();
+      long total = h + misses.sum();
+      return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * @return the maximum number of pooled instances per thread
+     */
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public long getMisses() {
+      return misses.sum();
+    }
+
+    public long getReleases() {
+      return releases.sum();
+    }
+
+    Object poll() {
+      Stack s = stacks.get();
+      if (s.size == 0) {
+        misses.increment();
+        return null;
+      }
+      hits.increment();
+      int i = --s.size;
+      Object r = s.items[i];
+      s.items[i] = null;
+      return r;
+    }
+
+    /**
+     * @param instance
+     * @throws CheckFailure if the instance is already in the current thread's
+     * pool
+     */
+    void checkNotPooled(Object instance) {
+      Stack s = stacks.get();
+      for (int i = 0; i < s.size; i++) {
+        if (s.items[i] == instance) {
+          throw new CheckFailure(THE_INSTANCE_IS_ALREADY_POOLED + Check.NEW_LINE, instance);
+        }
+      }
+    }
+
+    boolean offer(Object instance) {
+      releases.increment();
+      Stack s = stacks.get();
+      if (s.size == maxSize) {
+        discarded.increment();
+        return false;
+      }
+      s.items[s.size++] = instance;
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return "Pool [class=" + clazz.getName() + ", hitRate=" + getHitRate() + ", hits=" + getHits()
+          + ", misses=" + getMisses() + ", releases=" + getReleases() + ", discarded="
+          + getDiscarded() + ", maxSize=" + maxSize + "]";
+    }
+  }
+
+  private final ConcurrentHashMap<Class<?>, Pool> pools = new ConcurrentHashMap<>();
+
+  public PoolingCtx(I_JseCtx delegate) {
+    super(delegate);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    Pool pool = pools.get(clazz);
+    if (pool != null) {
+      Object r = pool.poll();
+      if (r != null) {
+        return (T) r;
+      }
+    }
+    return super.create(clazz, leaf);
+  }
+
+  /**
+   * @return the pools sorted by class name, and their hit rates
+   */
+  public String dump() {
+    List<Pool> all = getPools();
+    all.sort(Comparator.comparing((Pool p) -> p.getClazz().getName()));
+    StringBuilder sb = new StringBuilder(all.size() * 128);
+    String lineSeparator = System.lineSeparator();
+    for (Pool p : all) {
+      sb.append(p).append(lineSeparator);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @param clazz
+   * @return the pool or null if the class isn't pooled
+   */
+  public Pool getPool(Class<?> clazz) {
+    return pools.get(clazz);
+  }
+
+  public List<Pool> getPools() {
+    return new ArrayList<>(pools.values());
+  }
+
+  /**
+   * This opts the class in to pooling.
+   * @param clazz
+   * @param maxSize the maximum number of pooled instances per thread
+   * @return this
+   * @throws IllegalArgumentException if the class is a I_JseCtxAware
+   */
+  public <T extends I_Recyclable> PoolingCtx pool(Class<T> clazz, int maxSize) {
+    if (I_JseCtxAware.class.isAssignableFrom(Check.notNull(clazz))) {
+      throw new IllegalArgumentException(I_JSE_CTX_AWARE_CLASSES_CAN_NOT_BE_POOLED
+          + System.lineSeparator() + clazz.getName());
+    }
+    pools.putIfAbsent(clazz, new Pool(clazz, Check.isPositive(maxSize)));
+    return this;
+  }
+
+  /**
+   * This resets the instance and returns it to the current thread's pool,
+   * the caller MUST NOT use it afterwards.  The current thread's pool is
+   * checked (by identity) so that a second release of a instance, which would
+   * hand it to two callers, fails; a second release on a different thread
+   * isn't detected.
+   * @param instance
+   * @return true if it was pooled, false if the pool is full or it's
+   * class isn't pooled
+   * @throws CheckFailure if the instance is already pooled
+   */
+  public boolean release(I_Recyclable instance) {
+    Pool pool = pools.get(instance.getClass());
+    if (pool == null) {
+      return false;
+    }
+    pool.checkNotPooled(instance);
+    instance.reset();
+    return pool.offer(instance);
+  }
+}
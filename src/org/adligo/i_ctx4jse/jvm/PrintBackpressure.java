@@ -0,0 +1,43 @@
+package org.adligo.i_ctx4jse.jvm;
+
+/**
+ * This controls what a {@link AsyncPrintCtx} does when it's ring buffer
+ * is full.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public enum PrintBackpressure {
+  /**
+   * the printing thread waits until there is room
+   */
+  BLOCK,
+  /**
+   * the message is dropped and counted
+   */
+  DROP,
+  /**
+   * one in every sampleEvery messages waits until there is room, the others
+   * are dropped and counted
+   */
+  SAMPLE
+}
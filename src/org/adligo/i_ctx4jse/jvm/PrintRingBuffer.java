@@ -0,0 +1,131 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This is a bounded, lock free, multiple producer single consumer ring buffer
+ * of print fragments.  Each slot has a sequence number, which the producers
+ * claim by a compare and set on the tail, and release with a ordered write,
+ * so that the single consumer can read the slots without any lock.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class PrintRingBuffer {
+  private final int mask;
+  private final String[] messages;
+  private final boolean[] newLines;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  /**
+   * only read and written by the consumer, but published for
+   * {@link #isEmpty()}
+   */
+  private volatile long head;
+
+  /**
+   * @param capacity rounded up to a power of two
+   */
+  PrintRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+    mask = size - 1;
+    messages = new String[size];
+    newLines = new boolean[size];
+    sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * consumer only
+   * @param sb
+   * @param lineSeparator
+   * @param max
+   * @return the number of fragments appended
+   */
+  int drainTo(StringBuilder sb, String lineSeparator, int max) {
+    long h = head;
+    int count = 0;
+    while (count < max) {
+      int i = (int) h & mask;
+      if (sequences.get(i) != h + 1) {
+        break;
+      }
+      sb.append(messages[i]);
+      if (newLines[i]) {
+        sb.append(lineSeparator);
+      }
+      messages[i] = null;
+      sequences.lazySet(i, h + mask + 1);
+      h++;
+      count++;
+    }
+    head = h;
+    return count;
+  }
+
+  boolean isEmpty() {
+    return tail.get() == head;
+  }
+
+  /**
+   * @param message
+   * @param newLine
+   * @return false if the buffer is full
+   */
+  boolean offer(String message, boolean newLine) {
+    while (true) {
+      long t = tail.get();
+      int i = (int) t & mask;
+      long diff = sequences.get(i) - t;
+      if (diff == 0) {
+        if (tail.compareAndSet(t, t + 1)) {
+          messages[i] = message;
+          newLines[i] = newLine;
+          //release the slot to the consumer
+          sequences.lazySet(i, t + 1);
+          return true;
+        }
+      } else if (diff < 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * @return the producer sequence, which {@link AsyncPrintCtx#flush()} waits
+   * for the consumer's written count to reach
+   */
+  long tail() {
+    return tail.get();
+  }
+
+  long head() {
+    return head;
+  }
+}
@@ -0,0 +1,69 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.adligo.i_ctx4jse.shared.I_JseCreator;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+
+/**
+ * This creates instances using Java Reflection on the bean (zero argument)
+ * constructor, or the single {@link I_JseCtx} argument constructor for
+ * {@link I_JseCtxAware} classes.  This will NOT compile to GWT or
+ * native executables.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ReflectionCreator implements I_JseCreator {
+  public static final String UNABLE_TO_CREATE = "Unable to create an instance of ";
+
+  /**
+   * rethrows the cause of a constructor failure
+   * @param clazz
+   * @param x
+   * @return never returns, this allows throw rethrow(...)
+   */
+  static RuntimeException rethrow(Class<?> clazz, Throwable x) {
+    if (x instanceof RuntimeException) {
+      throw (RuntimeException) x;
+    } else if (x instanceof Error) {
+      throw (Error) x;
+    }
+    throw new IllegalStateException(UNABLE_TO_CREATE + clazz.getName(), x);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx ctx) {
+    try {
+      if (I_JseCtxAware.class.isAssignableFrom(clazz)) {
+        return clazz.getConstructor(I_JseCtx.class).newInstance(ctx);
+      }
+      return clazz.getConstructor().newInstance();
+    } catch (InvocationTargetException x) {
+      throw rethrow(clazz, x.getCause());
+    } catch (ReflectiveOperationException x) {
+      throw new IllegalArgumentException(UNABLE_TO_CREATE + clazz.getName(), x);
+    }
+  }
+
+}
@@ -0,0 +1,462 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCreator;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+
+/**
+ * This caches the instances of the classes registered with
+ * {@link #scoped(Class)} per scope (i.e. request, session or tenant), in
+ * between the process wide singletons of {@link #get(Class)} and the new
+ * instances of {@link #create(Class)}.  Each {@link #scope(Object)} is a
+ * {@link I_JseCtx} whose get returns the scope's cached instance, which
+ * is created with that scope as the leaf most context.<br/>
+ * The cache is bounded by a segmented LRU; new entries are put in the
+ * probation segment and promoted to the protected segment when they are
+ * hit again, so a burst of one time scopes can't evict the busy ones.
+ * Entries also expire a fixed time after they were created, as measured by
+ * {@link I_JseCtx#getTime()}.<br/>
+ * A hit doesn't take a lock, it is looked up in a {@link ConcurrentHashMap}
+ * and recorded in a striped (lossy) read buffer, which is drained into the
+ * LRU order when the policy lock is free.  Only misses, expiry and
+ * eviction take the lock.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ScopedCacheCtx extends DelegatingJseCtx {
+  public static final long NO_EXPIRY = Long.MAX_VALUE;
+  /**
+   * the protected segment's share of the maximum size
+   */
+  public static final double PROTECTED_RATIO = 0.8;
+  /**
+   * the slots per read buffer, a power of two
+   */
+  static final int READ_BUFFER_SIZE = 128;
+  /**
+   * a drain is tried after this many reads of a buffer, a power of two
+   */
+  static final int DRAIN_EVERY = 32;
+  static final int STRIPES = 8;
+
+  private static final class Entry {
+    private final long created;
+    private final Object instance;
+    private final Key key;
+    /**
+     * guarded by the policy lock
+     */
+    private boolean removed;
+
+    Entry(Key key, Object instance, long created) {
+      this.key = key;
+      this.instance = instance;
+      this.created = created;
+    }
+  }
+
+  private static final class Key {
+    private final Class<?> clazz;
+    private final int hash;
+    private final Object scope;
+
+    Key(Object scope, Class<?> clazz) {
+      this.scope = scope;
+      this.clazz = clazz;
+      hash = scope.hashCode() * 31 + clazz.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return clazz == other.clazz && scope.equals(other.scope);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * This records the hits of the threads in one stripe, a slot which is
+   * overwritten before it is drained is lost, which only makes the LRU order
+   * a little less exact.
+   */
+  private static final class ReadBuffer {
+    private final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong writes = new AtomicLong();
+    /**
+     * guarded by the policy lock
+     */
+    private long reads;
+
+    /**
+     * @param e
+     * @return true if a drain should be tried
+     */
+    boolean record(Entry e) {
+      long w = writes.getAndIncrement();
+      slots.lazySet((int) w & (READ_BUFFER_SIZE - 1), e);
+      return (w & (DRAIN_EVERY - 1)) == DRAIN_EVERY - 1;
+    }
+  }
+
+  /**
+   * The context of one scope, the leaf overloads (used by decorators of the
+   * scope) are scoped the same way; a scoped instance is shared by the scope,
+   * so it is created with the scope as the leaf NOT the caller's leaf.
+   */
+  public class Scope extends DelegatingJseCtx {
+    private final Object key;
+
+    Scope(Object key) {
+      super(ScopedCacheCtx.this);
+      this.key = key;
+    }
+
+    @Override
+    public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+      return creator.create(clazz, leaf);
+    }
+
+    @Override
+    public <T> T get(Class<T> clazz, I_JseCtx leaf) {
+      if (scoped.contains(clazz)) {
+        return getScoped(this, clazz);
+      }
+      //the singletons are created with the outer context, NOT the scope
+      return ScopedCacheCtx.this.get(clazz);
+    }
+
+    public Object getKey() {
+      return key;
+    }
+  }
+
+  private final ReadBuffer[] buffers = new ReadBuffer[STRIPES];
+  private final I_JseCreator creator;
+  private final ConcurrentHashMap<Key, Entry> data = new ConcurrentHashMap<>();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final int maxSize;
+  private final int maxProtected;
+  private final LongAdder misses = new LongAdder();
+  private final ReentrantLock policy = new ReentrantLock();
+  private final Set<Class<?>> scoped = ConcurrentHashMap.newKeySet();
+  private final long ttlMillis;
+  /**
+   * the following are guarded by the policy lock, both segments are in
+   * access order
+   */
+  private final LinkedHashMap<Key, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<Key, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+  /**
+   * the keys of each scope, for {@link #invalidate(Object)}
+   */
+  private final HashMap<Object, Set<Key>> scopes = new HashMap<>();
+
+  public ScopedCacheCtx(I_JseCtx delegate, I_JseCreator creator, int maxSize) {
+    this(delegate, creator, maxSize, NO_EXPIRY, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @param delegate
+   * @param creator used to create the scoped instances, with the scope as
+   * the leaf most context
+   * @param maxSize the maximum number of cached instances over all scopes
+   * @param ttl the time to live after a instance is created
+   * @param unit
+   */
+  public ScopedCacheCtx(I_JseCtx delegate, I_JseCreator creator, int maxSize, long ttl,
+      TimeUnit unit) {
+    super(delegate);
+    this.creator = Check.notNull(creator);
+    this.maxSize = Check.isPositive(maxSize);
+    maxProtected = (int) (maxSize * PROTECTED_RATIO);
+    ttlMillis = ttl == NO_EXPIRY ? NO_EXPIRY : unit.toMillis(Check.isPositive(ttl));
+    for (int i = 0; i < STRIPES; i++) {
+      buffers[i] = new ReadBuffer();
+    }
+  }
+
+  /**
+   * This removes the expired instances, which are otherwise only removed
+   * when they are looked up or evicted.
+   * @return the number removed
+   */
+  public int cleanUp() {
+    policy.lock();
+    try {
+      drainBuffers();
+      long now = getTime();
+      int r = removeExpired(probation, now) + removeExpired(protectedSegment, now);
+      expirations.add(r);
+      return r;
+    } finally {
+      policy.unlock();
+    }
+  }
+
+  /**
+   * guarded by the policy lock
+   */
+  private void drainBuffers() {
+    for (ReadBuffer b : buffers) {
+      long w = b.writes.get();
+      for (long i = Math.max(b.reads, w - READ_BUFFER_SIZE); i < w; i++) {
+        Entry e = b.slots.getAndSet((int) i & (READ_BUFFER_SIZE - 1), null);
+        if (e != null) {
+          onAccess(e);
+        }
+      }
+      b.reads = w;
+    }
+  }
+
+  private void evict() {
+    while (probation.size() + protectedSegment.size() > maxSize) {
+      Iterator<Entry> it = probation.isEmpty() ? protectedSegment.values().iterator()
+          : probation.values().iterator();
+      Entry e = it.next();
+      it.remove();
+      unindex(e);
+      evictions.increment();
+    }
+  }
+
+  private void expire(Entry e) {
+    policy.lock();
+    try {
+      if (!e.removed) {
+        probation.remove(e.key);
+        protectedSegment.remove(e.key);
+        unindex(e);
+        expirations.increment();
+      }
+    } finally {
+      policy.unlock();
+    }
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public long getExpirations() {
+    return expirations.sum();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return hits / (hits + misses) or 0.0
+   */
+  public double getHitRate() {
+    long h = hits.sum();
+    long total = h + misses.sum();
+    return total == 0 ? 0.0 : (double) h / total;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T getScoped(Scope scope, Class<T> clazz) {
+    Key key = new Key(scope.key, clazz);
+    Entry e = data.get(key);
+    if (e != null) {
+      if (!isExpired(e)) {
+        hits.increment();
+        if (buffers[(int) Thread.currentThread().getId() & (STRIPES - 1)].record(e)
+            && policy.tryLock()) {
+          try {
+            drainBuffers();
+          } finally {
+            policy.unlock();
+          }
+        }
+        return (T) e.instance;
+      }
+      expire(e);
+    }
+    misses.increment();
+    //created outside of the lock, since the constructor may get other
+    //scoped instances, if two threads race the first one put is kept
+    T instance = creator.create(clazz, scope);
+    policy.lock();
+    try {
+      drainBuffers();
+      Entry existing = data.get(key);
+      if (existing != null && !isExpired(existing)) {
+        return (T) existing.instance;
+      }
+      if (existing != null) {
+        expire(existing);
+      }
+      Entry added = new Entry(key, instance, getTime());
+      data.put(key, added);
+      probation.put(key, added);
+      scopes.computeIfAbsent(key.scope, (k) -> new HashSet<>()).add(key);
+      evict();
+    } finally {
+      policy.unlock();
+    }
+    return instance;
+  }
+
+  public int getSize() {
+    return data.size();
+  }
+
+  /**
+   * This removes all of the instances of a scope (i.e. when a session
+   * ends), without scanning the other scopes.
+   * @param key
+   * @return the number removed
+   */
+  public int invalidate(Object key) {
+    policy.lock();
+    try {
+      Set<Key> keys = scopes.remove(key);
+      if (keys == null) {
+        return 0;
+      }
+      for (Key k : keys) {
+        Entry e = data.remove(k);
+        e.removed = true;
+        probation.remove(k);
+        protectedSegment.remove(k);
+      }
+      return keys.size();
+    } finally {
+      policy.unlock();
+    }
+  }
+
+  private boolean isExpired(Entry e) {
+    return ttlMillis != NO_EXPIRY && getTime() - e.created >= ttlMillis;
+  }
+
+  /**
+   * guarded by the policy lock
+   * @param e
+   */
+  private void onAccess(Entry e) {
+    if (e.removed || protectedSegment.get(e.key) != null) {
+      //the get moved it to the most recently used
+      return;
+    }
+    probation.remove(e.key);
+    protectedSegment.put(e.key, e);
+    //demote the least recently used protected entries to probation
+    Iterator<Map.Entry<Key, Entry>> it = protectedSegment.entrySet().iterator();
+    while (protectedSegment.size() > maxProtected && it.hasNext()) {
+      Map.Entry<Key, Entry> lru = it.next();
+      it.remove();
+      probation.put(lru.getKey(), lru.getValue());
+    }
+  }
+
+  private int removeExpired(LinkedHashMap<Key, Entry> segment, long now) {
+    int r = 0;
+    Iterator<Entry> it = segment.values().iterator();
+    while (it.hasNext()) {
+      Entry e = it.next();
+      if (ttlMillis != NO_EXPIRY && now - e.created >= ttlMillis) {
+        it.remove();
+        unindex(e);
+        r++;
+      }
+    }
+    return r;
+  }
+
+  /**
+   * This opts the class in to caching per scope.
+   * @param clazz
+   * @return this
+   */
+  public ScopedCacheCtx scoped(Class<?> clazz) {
+    scoped.add(Check.notNull(clazz));
+    return this;
+  }
+
+  /**
+   * @param key the scope key, i.e. a tenant id, which MUST implement
+   * equals and hashCode
+   * @return the context of the scope
+   */
+  public Scope scope(Object key) {
+    return new Scope(Check.notNull(key));
+  }
+
+  @Override
+  public String toString() {
+    return "ScopedCacheCtx [size=" + getSize() + ", maxSize=" + maxSize + ", hitRate="
+        + getHitRate() + ", hits=" + getHits() + ", misses=" + getMisses() + ", evictions="
+        + getEvictions() + ", expirations=" + getExpirations() + "]";
+  }
+
+  /**
+   * This removes the entry from the map and scope index, guarded by the
+   * policy lock.
+   * @param e
+   */
+  private void unindex(Entry e) {
+    e.removed = true;
+    data.remove(e.key, e);
+    Set<Key> keys = scopes.get(e.key.scope);
+    if (keys != null && keys.remove(e.key) && keys.isEmpty()) {
+      scopes.remove(e.key.scope);
+    }
+  }
+}
@@ -26,4 +26,6 @@
  */
 module org.adligo.i.ctx4jse {
   requires transitive org.adligo.i_ctx;
+  requires java.management;
+  requires jdk.jfr;
 }
\ No newline at end of file
@@ -2,11 +2,19 @@ package org.adligo.i_ctx4jse.shared;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * This class provides Tests4j like assertion methods, which throw
- * {@link IllegalArgumentException}s.  You may use this in the public static way, 
+ * {@link IllegalArgumentException}s (really {@link CheckFailure}s which
+ * format their message lazily, see {@link StacklessCheck} to opt out of
+ * filling in the stack trace).  You may use this in the public static way, 
  * however the I_Check interface allows you to mixin these methods. <br/>
+ *   The methods with a {@link Supplier} message only call it on failure,
+ * so that the success path doesn't need to build the message.<br/>
+ *   The primitive equality methods have the type in their name (i.e.
+ * equalsInt), so that widening never selects them for a call to the Object
+ * equals, i.e. equals(1, 1.0) still compares a Integer to a Double.<br/>
  *   Also note that String.format is NOT used to to some incompatibility issues
  * with some tools that this code is designed to work with.
  * @author scott
@@ -52,188 +60,876 @@ public class Check {
   public static final String TRUE_IS_REQUIRED = "True is required at this point.\n";
   
   public static final String QUOTE_NEW_LINE = "'\n";
+  public static final String MAX_START_LINE = "\tmax: '";
+  public static final String MIN_START_LINE = "\tmin: '";
+  public static final String THE_ACTUAL_MUST_BE_IN_RANGE = "The actual MUST be in the range;\n";
+  public static final String THE_ACTUAL_MUST_BE_POSITIVE = "The actual MUST be positive;\n";
+  public static final String INDEX_START_LINE = "\tindex: '";
+  public static final String THE_ELEMENT_IS_EMPTY = "The element is empty;\n";
+  public static final String THE_ELEMENT_IS_NULL = "The element is null;\n";
+  public static final String THE_ELEMENT_MUST_BE_IN_RANGE = "The element MUST be in the range;\n";
   
+  /**
+   * @param actual
+   * @return the actual line, capped at {@link CheckMessageBuilder#getMaxValueLength()}
+   */
   public static String assembleActualLine(Object actual) {
-    if (actual == null) {
-      return ACTUAL_NULL_LINE;
+    return new CheckMessageBuilder("", 1).appendActual(actual).toString();
+  }
+
+  /**
+   * @param expected
+   * @return the expected line, capped at {@link CheckMessageBuilder#getMaxValueLength()}
+   */
+  public static String assembleExpectedLine(Object expected) {
+    return new CheckMessageBuilder("", 1).appendExpected(expected).toString();
+  }
+
+  public static String assembleActualLine(long actual) {
+    return new CheckMessageBuilder("", 1).appendActual(actual).toString();
+  }
+
+  public static String assembleExpectedLine(long expected) {
+    return new CheckMessageBuilder("", 1).appendExpected(expected).toString();
+  }
+
+  public static String assembleRangeLines(long min, long max) {
+    return new CheckMessageBuilder("", 2).appendRange(min, max).toString();
+  }
+
+  public static String assembleActualLine(double actual) {
+    return new CheckMessageBuilder("", 1).appendActual(actual).toString();
+  }
+
+  public static String assembleExpectedLine(double expected) {
+    return new CheckMessageBuilder("", 1).appendExpected(expected).toString();
+  }
+
+  public static String assembleRangeLines(double min, double max) {
+    return new CheckMessageBuilder("", 2).appendRange(min, max).toString();
+  }
+
+  public static String assembleIndexLine(int index) {
+    return new CheckMessageBuilder("", 1).appendIndex(index).toString();
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O[] allNotNull(O[] actual) {
+    return CheckCore.STACK_TRACE.allNotNull(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O[] allNotNull(String message, O[] actual) {
+    return CheckCore.STACK_TRACE.allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O[] allNotNull(Supplier<String> message, O[] actual) {
+    return CheckCore.STACK_TRACE.allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <C extends Collection<?>> C allNotNull(C actual) {
+    return CheckCore.STACK_TRACE.allNotNull(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <C extends Collection<?>> C allNotNull(String message, C actual) {
+    return CheckCore.STACK_TRACE.allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <C extends Collection<?>> C allNotNull(Supplier<String> message, C actual) {
+    return CheckCore.STACK_TRACE.allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String[] allNotEmpty(String[] actual) {
+    return CheckCore.STACK_TRACE.allNotEmpty(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String[] allNotEmpty(String message, String[] actual) {
+    return CheckCore.STACK_TRACE.allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String[] allNotEmpty(Supplier<String> message, String[] actual) {
+    return CheckCore.STACK_TRACE.allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <C extends Collection<String>> C allNotEmpty(C actual) {
+    return CheckCore.STACK_TRACE.allNotEmpty(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <C extends Collection<String>> C allNotEmpty(String message, C actual) {
+    return CheckCore.STACK_TRACE.allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <C extends Collection<String>> C allNotEmpty(Supplier<String> message, C actual) {
+    return CheckCore.STACK_TRACE.allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int[] allInRange(int min, int max, int[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int[] allInRange(String message, int min, int max, int[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int[] allInRange(Supplier<String> message, int min, int max, int[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long[] allInRange(long min, long max, long[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long[] allInRange(String message, long min, long max, long[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long[] allInRange(Supplier<String> message, long min, long max, long[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double[] allInRange(double min, double max, double[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double[] allInRange(String message, double min, double max, double[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double[] allInRange(Supplier<String> message, double min, double max, double[] actual) {
+    return CheckCore.STACK_TRACE.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This is branch free, so that the JIT can unroll (or vectorize) it.
+   * @return true if min &lt;= actual[i] &lt;= max for all elements
+   */
+  static boolean isAllInRange(int min, int max, int[] actual) {
+    int lo = min;
+    int hi = max;
+    for (int i = 0; i < actual.length; i++) {
+      lo = Math.min(lo, actual[i]);
+      hi = Math.max(hi, actual[i]);
+    }
+    return lo == min && hi == max;
+  }
+
+  /**
+   * @return the index of the first element outside of the range or -1
+   */
+  static int indexOutOfRange(int min, int max, int[] actual) {
+    for (int i = 0; i < actual.length; i++) {
+      int v = actual[i];
+      if (v < min || v > max) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * This is branch free, so that the JIT can unroll (or vectorize) it.
+   * @return true if min &lt;= actual[i] &lt;= max for all elements
+   */
+  static boolean isAllInRange(long min, long max, long[] actual) {
+    long lo = min;
+    long hi = max;
+    for (int i = 0; i < actual.length; i++) {
+      lo = Math.min(lo, actual[i]);
+      hi = Math.max(hi, actual[i]);
     }
-    return ACTUAL_START_LINE + actual + QUOTE_NEW_LINE;
+    return lo == min && hi == max;
+  }
+
+  /**
+   * @return the index of the first element outside of the range or -1
+   */
+  static int indexOutOfRange(long min, long max, long[] actual) {
+    for (int i = 0; i < actual.length; i++) {
+      long v = actual[i];
+      if (v < min || v > max) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * This is branch free, so that the JIT can unroll (or vectorize) it.
+   * @return true if min &lt;= actual[i] &lt;= max for all elements
+   */
+  static boolean isAllInRange(double min, double max, double[] actual) {
+    double lo = min;
+    double hi = max;
+    for (int i = 0; i < actual.length; i++) {
+      lo = Math.min(lo, actual[i]);
+      hi = Math.max(hi, actual[i]);
+    }
+    //NaN elements (or bounds) propagate through min / max
+    return (lo == min && hi == max) || actual.length == 0;
+  }
+
+  /**
+   * @return the index of the first element outside of the range or -1
+   */
+  static int indexOutOfRange(double min, double max, double[] actual) {
+    for (int i = 0; i < actual.length; i++) {
+      double v = actual[i];
+      if (!(min <= v && v <= max)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the collection.
+   * 
+   * @param collection
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O contains(Collection<O> collection, O actual) {
+    return CheckCore.STACK_TRACE.contains(collection, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the collection.
+   * @param message the failure message
+   * @param collection
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O contains(String message, Collection<O> collection, O actual) {
+    return CheckCore.STACK_TRACE.contains(message, collection, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the collection.
+   * @param message supplies the failure message, which is only called on failure
+   * @param collection
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O contains(Supplier<String> message, Collection<O> collection, O actual) {
+    return CheckCore.STACK_TRACE.contains(message, collection, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map.
+   * 
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O,V> O containsKey(Map<O,V> map, O actual) {
+    return CheckCore.STACK_TRACE.containsKey(map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map as a key.
+   * @param message the failure message
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O,V> O containsKey(String message, Map<O,V> map, O actual) {
+    return CheckCore.STACK_TRACE.containsKey(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O,V> O containsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    return CheckCore.STACK_TRACE.containsKey(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map.
+   * 
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <K, O> O containsValue(Map<K,O> map, O actual) {
+    return CheckCore.STACK_TRACE.containsValue(map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map as a key.
+   * @param message the failure message
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <K, O> O containsValue(String message, Map<K,O> map, O actual) {
+    return CheckCore.STACK_TRACE.containsValue(message, map, actual);
+  }
+  
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <K, O> O containsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    return CheckCore.STACK_TRACE.containsValue(message, map, actual);
+  }
+
+  /**
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O equals(Object expected, O actual) {
+    return CheckCore.STACK_TRACE.equals(expected, actual);
+  }
+
+  /**
+   * 
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O equals(String message, Object expected, O actual) {
+    return CheckCore.STACK_TRACE.equals(message, expected, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O equals(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACK_TRACE.equals(message, expected, actual);
+  }
+
+  /**
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String equals(String expected, String actual){
+    return CheckCore.STACK_TRACE.equals(expected, actual);
+  }
+
+  /**
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String equals(String message, String expected, String actual){
+    return CheckCore.STACK_TRACE.equals(message, expected, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String equals(Supplier<String> message, String expected, String actual){
+    return CheckCore.STACK_TRACE.equals(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int equalsInt(int expected, int actual) {
+    return CheckCore.STACK_TRACE.equalsInt(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int equalsInt(String message, int expected, int actual) {
+    return CheckCore.STACK_TRACE.equalsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int equalsInt(Supplier<String> message, int expected, int actual) {
+    return CheckCore.STACK_TRACE.equalsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long equalsLong(long expected, long actual) {
+    return CheckCore.STACK_TRACE.equalsLong(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long equalsLong(String message, long expected, long actual) {
+    return CheckCore.STACK_TRACE.equalsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long equalsLong(Supplier<String> message, long expected, long actual) {
+    return CheckCore.STACK_TRACE.equalsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double equalsDouble(double expected, double actual) {
+    return CheckCore.STACK_TRACE.equalsDouble(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double equalsDouble(String message, double expected, double actual) {
+    return CheckCore.STACK_TRACE.equalsDouble(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double equalsDouble(Supplier<String> message, double expected, double actual) {
+    return CheckCore.STACK_TRACE.equalsDouble(message, expected, actual);
+  }
+
+  public static void isFalse(boolean actual){
+    CheckCore.STACK_TRACE.isFalse(actual);
+  }
+
+  public static void isFalse(String message, boolean actual){
+    CheckCore.STACK_TRACE.isFalse(message, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   */
+  public static void isFalse(Supplier<String> message, boolean actual){
+    CheckCore.STACK_TRACE.isFalse(message, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int inRange(int min, int max, int actual) {
+    return CheckCore.STACK_TRACE.inRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int inRange(String message, int min, int max, int actual) {
+    return CheckCore.STACK_TRACE.inRange(message, min, max, actual);
   }
 
-  public static String assembleExpectedLine(Object expected) {
-    if (expected == null) {
-      return EXPECTED_NULL_LINE;
-    }
-    return EXPECTED_START_LINE + expected + QUOTE_NEW_LINE;
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int inRange(Supplier<String> message, int min, int max, int actual) {
+    return CheckCore.STACK_TRACE.inRange(message, min, max, actual);
   }
 
   /**
-   * This method asserts that the actual parameter is contained
-   * in the collection.
-   * 
-   * @param collection
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
    * @param actual
    * @return the actual parameter
    */
-  public static <O> O contains(Collection<O> collection, O actual) {
-    if (collection.contains(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(THE_COLLECTION_MUST_CONTAIN +
-        assembleActualLine(actual));
+  public static long inRange(long min, long max, long actual) {
+    return CheckCore.STACK_TRACE.inRange(min, max, actual);
   }
 
   /**
-   * This method asserts that the actual parameter is contained
-   * in the collection.
-   * @param message the failure message
-   * @param collection
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
    * @param actual
    * @return the actual parameter
    */
-  public static <O> O contains(String message, Collection<O> collection, O actual) {
-    if (collection.contains(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(message + NEW_LINE +
-        assembleActualLine(actual));
+  public static long inRange(String message, long min, long max, long actual) {
+    return CheckCore.STACK_TRACE.inRange(message, min, max, actual);
   }
 
   /**
-   * This method asserts that the actual parameter is contained
-   * in the map.
-   * 
-   * @param map
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
    * @param actual
    * @return the actual parameter
    */
-  public static <O,V> O containsKey(Map<O,V> map, O actual) {
-    if (map.containsKey(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(THE_MAP_MUST_CONTAIN_KEY +
-        assembleActualLine(actual));
+  public static long inRange(Supplier<String> message, long min, long max, long actual) {
+    return CheckCore.STACK_TRACE.inRange(message, min, max, actual);
   }
 
   /**
-   * This method asserts that the actual parameter is contained
-   * in the map as a key.
-   * @param message the failure message
-   * @param map
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * Note NaN is NOT in any range.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
    * @param actual
    * @return the actual parameter
    */
-  public static <O,V> O containsKey(String message, Map<O,V> map, O actual) {
-    if (map.containsKey(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(message + NEW_LINE +
-        assembleActualLine(actual));
+  public static double inRange(double min, double max, double actual) {
+    return CheckCore.STACK_TRACE.inRange(min, max, actual);
   }
 
   /**
-   * This method asserts that the actual parameter is contained
-   * in the map.
-   * 
-   * @param map
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * Note NaN is NOT in any range.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
    * @param actual
    * @return the actual parameter
    */
-  public static <K, O> O containsValue(Map<K,O> map, O actual) {
-    if (map.containsValue(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(THE_MAP_MUST_CONTAIN_VALUE +
-        assembleActualLine(actual));
+  public static double inRange(String message, double min, double max, double actual) {
+    return CheckCore.STACK_TRACE.inRange(message, min, max, actual);
   }
 
   /**
-   * This method asserts that the actual parameter is contained
-   * in the map as a key.
-   * @param message the failure message
-   * @param map
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * Note NaN is NOT in any range.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
    * @param actual
    * @return the actual parameter
    */
-  public static <K, O> O containsValue(String message, Map<K,O> map, O actual) {
-    if (map.containsValue(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(message + NEW_LINE +
-        assembleActualLine(actual));
+  public static double inRange(Supplier<String> message, double min, double max, double actual) {
+    return CheckCore.STACK_TRACE.inRange(message, min, max, actual);
   }
-  
+
   /**
-   * @param expected
+   * This asserts that the actual is greater than zero without any auto boxing.
    * @param actual
    * @return the actual parameter
    */
-  public static <O> O equals(Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED +
-        assembleActualLine(actual) + assembleExpectedLine(expected));
+  public static int isPositive(int actual) {
+    return CheckCore.STACK_TRACE.isPositive(actual);
   }
 
   /**
-   * 
+   * This asserts that the actual is greater than zero without any auto boxing.
    * @param message
-   * @param expected
    * @param actual
    * @return the actual parameter
    */
-  public static <O> O equals(String message, Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(message +
-        assembleActualLine(actual) + assembleExpectedLine(expected));
+  public static int isPositive(String message, int actual) {
+    return CheckCore.STACK_TRACE.isPositive(message, actual);
   }
 
   /**
-   * @param expected
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
    * @param actual
    * @return the actual parameter
    */
-  public static String equals(String expected, String actual){
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED +
-        assembleActualLine(actual) + assembleExpectedLine(expected));
+  public static int isPositive(Supplier<String> message, int actual) {
+    return CheckCore.STACK_TRACE.isPositive(message, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long isPositive(long actual) {
+    return CheckCore.STACK_TRACE.isPositive(actual);
   }
 
   /**
+   * This asserts that the actual is greater than zero without any auto boxing.
    * @param message
-   * @param expected
    * @param actual
    * @return the actual parameter
    */
-  public static String equals(String message, String expected, String actual){
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      return actual;
-    }
-    throw new IllegalArgumentException(message +
-        assembleActualLine(actual) + assembleExpectedLine(expected));
+  public static long isPositive(String message, long actual) {
+    return CheckCore.STACK_TRACE.isPositive(message, actual);
   }
 
-  public static void isFalse(boolean actual){
-    if (actual) {
-      throw new IllegalArgumentException(FALSE_IS_REQUIRED);
-    }
-    return;
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long isPositive(Supplier<String> message, long actual) {
+    return CheckCore.STACK_TRACE.isPositive(message, actual);
   }
 
-  public static void isFalse(String message, boolean actual){
-    if (actual) {
-      throw new IllegalArgumentException(message);
-    }
-    return;
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double isPositive(double actual) {
+    return CheckCore.STACK_TRACE.isPositive(actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double isPositive(String message, double actual) {
+    return CheckCore.STACK_TRACE.isPositive(message, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double isPositive(Supplier<String> message, double actual) {
+    return CheckCore.STACK_TRACE.isPositive(message, actual);
   }
 
   /**
@@ -245,11 +941,7 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O notContains(Collection<O> collection, O actual) {
-    if (collection.contains(actual)) {
-      throw new IllegalArgumentException(THE_COLLECTION_MUST_NOT_CONTAIN +
-          assembleActualLine(actual));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notContains(collection, actual);
   }
 
   /**
@@ -261,11 +953,19 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O notContains(String message, Collection<O> collection, O actual) {
-    if (collection.contains(actual)) {
-      throw new IllegalArgumentException(message + NEW_LINE +
-          assembleActualLine(actual));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notContains(message, collection, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is NOT contained
+   * in the collection.
+   * @param message supplies the failure message, which is only called on failure
+   * @param collection
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O notContains(Supplier<String> message, Collection<O> collection, O actual) {
+    return CheckCore.STACK_TRACE.notContains(message, collection, actual);
   }
 
   /**
@@ -277,11 +977,7 @@ public class Check {
    * @return the actual parameter
    */
   public static <O,V> O notContainsKey(Map<O,V> map, O actual) {
-    if (map.containsKey(actual)) {
-      throw new IllegalArgumentException(THE_MAP_MUST_NOT_CONTAIN_KEY +
-          assembleActualLine(actual));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notContainsKey(map, actual);
   }
 
   /**
@@ -293,11 +989,19 @@ public class Check {
    * @return the actual parameter
    */
   public static <O,V> O notContainsKey(String message, Map<O,V> map, O actual) {
-    if (map.containsKey(actual)) {
-      throw new IllegalArgumentException(message + NEW_LINE +
-          assembleActualLine(actual));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notContainsKey(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is NOT contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O,V> O notContainsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    return CheckCore.STACK_TRACE.notContainsKey(message, map, actual);
   }
 
   /**
@@ -309,11 +1013,7 @@ public class Check {
    * @return the actual parameter
    */
   public static <K, O> O notContainsValue(Map<K,O> map, O actual) {
-    if (map.containsValue(actual)) {
-      throw new IllegalArgumentException(THE_MAP_MUST_NOT_CONTAIN_VALUE +
-          assembleActualLine(actual));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notContainsValue(map, actual);
   }
 
   /**
@@ -325,11 +1025,19 @@ public class Check {
    * @return the actual parameter
    */
   public static <K, O> O notContainsValue(String message, Map<K,O> map, O actual) {
-    if (map.containsValue(actual)) {
-      throw new IllegalArgumentException(message + NEW_LINE +
-          assembleActualLine(actual));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notContainsValue(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is NOT contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <K, O> O notContainsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    return CheckCore.STACK_TRACE.notContainsValue(message, map, actual);
   }
 
   /**
@@ -338,13 +1046,7 @@ public class Check {
    * @return the actual parameter
    */
   public static String notEmpty(String actual){
-    if (actual == null) {
-      throw new IllegalArgumentException(THE_ACTUAL_IS_NULL);
-    }
-    if (actual.trim().length() == 0) {
-      throw new IllegalArgumentException(THE_ACTUAL_IS_EMPTY);
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notEmpty(actual);
   }
 
   /**
@@ -354,25 +1056,26 @@ public class Check {
    * @return the actual parameter
    */
   public static String notEmpty(String message, String actual){
-    if (actual == null) {
-      throw new IllegalArgumentException(message);
-    }
-    if (actual.trim().length() == 0) {
-      throw new IllegalArgumentException(message);
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notEmpty(message, actual);
   }
   
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String notEmpty(Supplier<String> message, String actual){
+    return CheckCore.STACK_TRACE.notEmpty(message, actual);
+  }
+
   /**
    * 
    * @param actual
    * @return the actual parameter
    */
   public static <O> O  notNull(O actual){
-    if (actual == null) {
-      throw new IllegalArgumentException(THE_ACTUAL_IS_NULL);
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notNull(actual);
   }
 
   /**
@@ -382,10 +1085,17 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O notNull(String message, O actual){
-    if (actual == null) {
-      throw new IllegalArgumentException(message);
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notNull(message, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O notNull(Supplier<String> message, O actual){
+    return CheckCore.STACK_TRACE.notNull(message, actual);
   }
 
   /**
@@ -395,12 +1105,7 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O notEquals(Object expected, O actual){
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      throw new IllegalArgumentException(THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED +
-          assembleActualLine(actual) + assembleExpectedLine(expected));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notEquals(expected, actual);
   }
 
   /**
@@ -411,12 +1116,18 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O notEquals(String message, Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      throw new IllegalArgumentException(message +
-          assembleActualLine(actual) + assembleExpectedLine(expected));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notEquals(message, expected, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O notEquals(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACK_TRACE.notEquals(message, expected, actual);
   }
 
   /**
@@ -426,12 +1137,7 @@ public class Check {
    * @return the actual parameter
    */
   public static String notEquals(String expected, String actual) {
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      throw new IllegalArgumentException(THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED +
-          assembleActualLine(actual) + assembleExpectedLine(expected));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notEquals(expected, actual);
   }
 
   /**
@@ -442,12 +1148,120 @@ public class Check {
    * @return the actual parameter
    */
   public static String notEquals(String message, String expected, String actual) {
-    //throw NPE on expected intentionally
-    if (expected.equals(actual)) {
-      throw new IllegalArgumentException(message +
-          assembleActualLine(actual) + assembleExpectedLine(expected));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notEquals(message, expected, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static String notEquals(Supplier<String> message, String expected, String actual) {
+    return CheckCore.STACK_TRACE.notEquals(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int notEqualsInt(int expected, int actual) {
+    return CheckCore.STACK_TRACE.notEqualsInt(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int notEqualsInt(String message, int expected, int actual) {
+    return CheckCore.STACK_TRACE.notEqualsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static int notEqualsInt(Supplier<String> message, int expected, int actual) {
+    return CheckCore.STACK_TRACE.notEqualsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long notEqualsLong(long expected, long actual) {
+    return CheckCore.STACK_TRACE.notEqualsLong(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long notEqualsLong(String message, long expected, long actual) {
+    return CheckCore.STACK_TRACE.notEqualsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static long notEqualsLong(Supplier<String> message, long expected, long actual) {
+    return CheckCore.STACK_TRACE.notEqualsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double notEqualsDouble(double expected, double actual) {
+    return CheckCore.STACK_TRACE.notEqualsDouble(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double notEqualsDouble(String message, double expected, double actual) {
+    return CheckCore.STACK_TRACE.notEqualsDouble(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static double notEqualsDouble(Supplier<String> message, double expected, double actual) {
+    return CheckCore.STACK_TRACE.notEqualsDouble(message, expected, actual);
   }
 
   /**
@@ -457,12 +1271,7 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O  notSame(Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected == actual) {
-      throw new IllegalArgumentException(THE_ACTUAL_MUST_BE_THE_SAME_AS_EXPECTED +
-          assembleActualLine(actual) + assembleExpectedLine(expected));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notSame(expected, actual);
   }
 
   /**
@@ -472,12 +1281,17 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O notSame(String message, Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected == actual) {
-      throw new IllegalArgumentException(message +
-          assembleActualLine(actual) + assembleExpectedLine(expected));
-    }
-    return actual;
+    return CheckCore.STACK_TRACE.notSame(message, expected, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O notSame(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACK_TRACE.notSame(message, expected, actual);
   }
 
   /**
@@ -486,12 +1300,7 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O same(Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected == actual) {
-      return actual;
-    }
-    throw new IllegalArgumentException(THE_ACTUAL_MUST_BE_THE_SAME_AS_EXPECTED +
-        assembleActualLine(actual) + assembleExpectedLine(expected));
+    return CheckCore.STACK_TRACE.same(expected, actual);
   }
 
   /**
@@ -501,25 +1310,31 @@ public class Check {
    * @return the actual parameter
    */
   public static <O> O same(String message, Object expected, O actual) {
-    //throw NPE on expected intentionally
-    if (expected == actual) {
-      return actual;
-    }
-    throw new IllegalArgumentException(message +
-        assembleActualLine(actual) + assembleExpectedLine(expected));
+    return CheckCore.STACK_TRACE.same(message, expected, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  public static <O> O same(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACK_TRACE.same(message, expected, actual);
   }
 
   public static void isTrue(boolean actual) {
-    if (actual) {
-      return;
-    }
-    throw new IllegalArgumentException(TRUE_IS_REQUIRED);
+    CheckCore.STACK_TRACE.isTrue(actual);
   }
 
   public static void isTrue(String message, boolean actual) {
-    if (actual) {
-      return;
-    }
-    throw new IllegalArgumentException(TRUE_IS_REQUIRED);
+    CheckCore.STACK_TRACE.isTrue(message, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   */
+  public static void isTrue(Supplier<String> message, boolean actual) {
+    CheckCore.STACK_TRACE.isTrue(message, actual);
   }
 }
@@ -0,0 +1,1357 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * This is the single implementation of the assertion methods, for
+ * {@link Check}, {@link StacklessCheck} and the mixins, which only differ in
+ * how the failure is created (with or without a stack trace).
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class CheckCore {
+  static final CheckCore STACK_TRACE = new CheckCore(false);
+  static final CheckCore STACKLESS = new CheckCore(true);
+
+  static CheckCore of(boolean stackless) {
+    return stackless ? STACKLESS : STACK_TRACE;
+  }
+
+  private final boolean stackless;
+
+  private CheckCore(boolean stackless) {
+    this.stackless = stackless;
+  }
+
+  private CheckFailure failure(String message) {
+    return stackless ? new StacklessCheckFailure(message) : new CheckFailure(message);
+  }
+
+  private CheckFailure failure(String prefix, Object actual) {
+    return stackless ? new StacklessCheckFailure(prefix, actual)
+        : new CheckFailure(prefix, actual);
+  }
+
+  private CheckFailure failure(String prefix, Object actual, Object expected) {
+    return stackless ? new StacklessCheckFailure(prefix, actual, expected)
+        : new CheckFailure(prefix, actual, expected);
+  }
+
+  /**
+   * This is notNull for the bulk methods, which are recorded once with their
+   * own type, so it isn't recorded as a separate check.
+   * @param type the bulk method's metric type
+   * @param actual
+   * @return the actual parameter
+   */
+  private <O> O unrecordedNotNull(String type, O actual) {
+    if (actual == null) {
+      CheckMetrics.failure(type);
+      throw failure(Check.THE_ACTUAL_IS_NULL);
+    }
+    return actual;
+  }
+
+  private CheckFailure failure(String prefix, Object actual, Object min, Object max) {
+    return stackless ? new StacklessCheckFailure(prefix, actual, min, max)
+        : new CheckFailure(prefix, actual, min, max);
+  }
+
+  /**
+   * This records and creates the failure of a checker which isn't a method
+   * of Check (i.e. a {@link MembershipChecker}).
+   * @param type the metric type
+   * @param prefix
+   * @param actual
+   * @return the failure to throw
+   */
+  CheckFailure recordFailure(String type, String prefix, Object actual) {
+    CheckMetrics.failure(type);
+    return failure(prefix, actual);
+  }
+
+  <O> O[] allNotNull(O[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotNull");
+    }
+    unrecordedNotNull("allNotNull", actual);
+    for (int i = 0; i < actual.length; i++) {
+      if (actual[i] == null) {
+        CheckMetrics.failure("allNotNull");
+        throw failure(Check.THE_ELEMENT_IS_NULL + Check.assembleIndexLine(i));
+      }
+    }
+    return actual;
+  }
+
+  <O> O[] allNotNull(String message, O[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotNull");
+    }
+    unrecordedNotNull("allNotNull", actual);
+    for (int i = 0; i < actual.length; i++) {
+      if (actual[i] == null) {
+        CheckMetrics.failure("allNotNull");
+        throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+    }
+    return actual;
+  }
+
+  <O> O[] allNotNull(Supplier<String> message, O[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotNull");
+    }
+    unrecordedNotNull("allNotNull", actual);
+    for (int i = 0; i < actual.length; i++) {
+      if (actual[i] == null) {
+        CheckMetrics.failure("allNotNull");
+        throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+    }
+    return actual;
+  }
+
+  <C extends Collection<?>> C allNotNull(C actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotNull");
+    }
+    int i = 0;
+    for (Object e : unrecordedNotNull("allNotNull", actual)) {
+      if (e == null) {
+        CheckMetrics.failure("allNotNull");
+        throw failure(Check.THE_ELEMENT_IS_NULL + Check.assembleIndexLine(i));
+      }
+      i++;
+    }
+    return actual;
+  }
+
+  <C extends Collection<?>> C allNotNull(String message, C actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotNull");
+    }
+    int i = 0;
+    for (Object e : unrecordedNotNull("allNotNull", actual)) {
+      if (e == null) {
+        CheckMetrics.failure("allNotNull");
+        throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      i++;
+    }
+    return actual;
+  }
+
+  <C extends Collection<?>> C allNotNull(Supplier<String> message, C actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotNull");
+    }
+    int i = 0;
+    for (Object e : unrecordedNotNull("allNotNull", actual)) {
+      if (e == null) {
+        CheckMetrics.failure("allNotNull");
+        throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      i++;
+    }
+    return actual;
+  }
+
+  String[] allNotEmpty(String[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotEmpty");
+    }
+    unrecordedNotNull("allNotEmpty", actual);
+    for (int i = 0; i < actual.length; i++) {
+      String e = actual[i];
+      if (e == null) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(Check.THE_ELEMENT_IS_NULL + Check.assembleIndexLine(i));
+      }
+      if (e.trim().length() == 0) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(Check.THE_ELEMENT_IS_EMPTY + Check.assembleIndexLine(i));
+      }
+    }
+    return actual;
+  }
+
+  String[] allNotEmpty(String message, String[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotEmpty");
+    }
+    unrecordedNotNull("allNotEmpty", actual);
+    for (int i = 0; i < actual.length; i++) {
+      String e = actual[i];
+      if (e == null) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      if (e.trim().length() == 0) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+    }
+    return actual;
+  }
+
+  String[] allNotEmpty(Supplier<String> message, String[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotEmpty");
+    }
+    unrecordedNotNull("allNotEmpty", actual);
+    for (int i = 0; i < actual.length; i++) {
+      String e = actual[i];
+      if (e == null) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      if (e.trim().length() == 0) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+    }
+    return actual;
+  }
+
+  <C extends Collection<String>> C allNotEmpty(C actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotEmpty");
+    }
+    int i = 0;
+    for (String e : unrecordedNotNull("allNotEmpty", actual)) {
+      if (e == null) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(Check.THE_ELEMENT_IS_NULL + Check.assembleIndexLine(i));
+      }
+      if (e.trim().length() == 0) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(Check.THE_ELEMENT_IS_EMPTY + Check.assembleIndexLine(i));
+      }
+      i++;
+    }
+    return actual;
+  }
+
+  <C extends Collection<String>> C allNotEmpty(String message, C actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotEmpty");
+    }
+    int i = 0;
+    for (String e : unrecordedNotNull("allNotEmpty", actual)) {
+      if (e == null) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      if (e.trim().length() == 0) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      i++;
+    }
+    return actual;
+  }
+
+  <C extends Collection<String>> C allNotEmpty(Supplier<String> message, C actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allNotEmpty");
+    }
+    int i = 0;
+    for (String e : unrecordedNotNull("allNotEmpty", actual)) {
+      if (e == null) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      if (e.trim().length() == 0) {
+        CheckMetrics.failure("allNotEmpty");
+        throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i));
+      }
+      i++;
+    }
+    return actual;
+  }
+
+  int[] allInRange(int min, int max, int[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(Check.THE_ELEMENT_MUST_BE_IN_RANGE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  int[] allInRange(String message, int min, int max, int[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  int[] allInRange(Supplier<String> message, int min, int max, int[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  long[] allInRange(long min, long max, long[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(Check.THE_ELEMENT_MUST_BE_IN_RANGE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  long[] allInRange(String message, long min, long max, long[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  long[] allInRange(Supplier<String> message, long min, long max, long[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  double[] allInRange(double min, double max, double[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(Check.THE_ELEMENT_MUST_BE_IN_RANGE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  double[] allInRange(String message, double min, double max, double[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(message + Check.NEW_LINE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  double[] allInRange(Supplier<String> message, double min, double max, double[] actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("allInRange");
+    }
+    if (!Check.isAllInRange(min, max, unrecordedNotNull("allInRange", actual))) {
+      int i = Check.indexOutOfRange(min, max, actual);
+      CheckMetrics.failure("allInRange");
+      throw failure(message.get() + Check.NEW_LINE + Check.assembleIndexLine(i), actual[i], min, max);
+    }
+    return actual;
+  }
+
+  <O> O contains(Collection<O> collection, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("contains");
+    }
+    if (collection.contains(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("contains");
+    throw failure(Check.THE_COLLECTION_MUST_CONTAIN, actual);
+  }
+
+  <O> O contains(String message, Collection<O> collection, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("contains");
+    }
+    if (collection.contains(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("contains");
+    throw failure(message + Check.NEW_LINE, actual);
+  }
+
+  <O> O contains(Supplier<String> message, Collection<O> collection, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("contains");
+    }
+    if (collection.contains(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("contains");
+    throw failure(message.get() + Check.NEW_LINE, actual);
+  }
+
+  <O,V> O containsKey(Map<O,V> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("containsKey");
+    }
+    if (map.containsKey(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("containsKey");
+    throw failure(Check.THE_MAP_MUST_CONTAIN_KEY, actual);
+  }
+
+  <O,V> O containsKey(String message, Map<O,V> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("containsKey");
+    }
+    if (map.containsKey(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("containsKey");
+    throw failure(message + Check.NEW_LINE, actual);
+  }
+
+  <O,V> O containsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("containsKey");
+    }
+    if (map.containsKey(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("containsKey");
+    throw failure(message.get() + Check.NEW_LINE, actual);
+  }
+
+  <K, O> O containsValue(Map<K,O> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("containsValue");
+    }
+    if (map.containsValue(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("containsValue");
+    throw failure(Check.THE_MAP_MUST_CONTAIN_VALUE, actual);
+  }
+
+  <K, O> O containsValue(String message, Map<K,O> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("containsValue");
+    }
+    if (map.containsValue(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("containsValue");
+    throw failure(message + Check.NEW_LINE, actual);
+  }
+
+  <K, O> O containsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("containsValue");
+    }
+    if (map.containsValue(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("containsValue");
+    throw failure(message.get() + Check.NEW_LINE, actual);
+  }
+
+  <O> O equals(Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equals");
+    throw failure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, actual, expected);
+  }
+
+  <O> O equals(String message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equals");
+    throw failure(message, actual, expected);
+  }
+
+  <O> O equals(Supplier<String> message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equals");
+    throw failure(message.get(), actual, expected);
+  }
+
+  String equals(String expected, String actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equals");
+    throw failure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, actual, expected);
+  }
+
+  String equals(String message, String expected, String actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equals");
+    throw failure(message, actual, expected);
+  }
+
+  String equals(Supplier<String> message, String expected, String actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equals");
+    throw failure(message.get(), actual, expected);
+  }
+
+  int equalsInt(int expected, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsInt");
+    }
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsInt");
+    throw failure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, actual, expected);
+  }
+
+  int equalsInt(String message, int expected, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsInt");
+    }
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsInt");
+    throw failure(message, actual, expected);
+  }
+
+  int equalsInt(Supplier<String> message, int expected, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsInt");
+    }
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsInt");
+    throw failure(message.get(), actual, expected);
+  }
+
+  long equalsLong(long expected, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsLong");
+    }
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsLong");
+    throw failure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, actual, expected);
+  }
+
+  long equalsLong(String message, long expected, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsLong");
+    }
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsLong");
+    throw failure(message, actual, expected);
+  }
+
+  long equalsLong(Supplier<String> message, long expected, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsLong");
+    }
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsLong");
+    throw failure(message.get(), actual, expected);
+  }
+
+  double equalsDouble(double expected, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsDouble");
+    }
+    if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsDouble");
+    throw failure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, actual, expected);
+  }
+
+  double equalsDouble(String message, double expected, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsDouble");
+    }
+    if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsDouble");
+    throw failure(message, actual, expected);
+  }
+
+  double equalsDouble(Supplier<String> message, double expected, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("equalsDouble");
+    }
+    if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+      return actual;
+    }
+    CheckMetrics.failure("equalsDouble");
+    throw failure(message.get(), actual, expected);
+  }
+
+  void isFalse(boolean actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isFalse");
+    }
+    if (actual) {
+      CheckMetrics.failure("isFalse");
+      throw failure(Check.FALSE_IS_REQUIRED);
+    }
+    return;
+  }
+
+  void isFalse(String message, boolean actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isFalse");
+    }
+    if (actual) {
+      CheckMetrics.failure("isFalse");
+      throw failure(message);
+    }
+    return;
+  }
+
+  void isFalse(Supplier<String> message, boolean actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isFalse");
+    }
+    if (actual) {
+      CheckMetrics.failure("isFalse");
+      throw failure(message.get());
+    }
+    return;
+  }
+
+  int inRange(int min, int max, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(Check.THE_ACTUAL_MUST_BE_IN_RANGE, actual, min, max);
+  }
+
+  int inRange(String message, int min, int max, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(message + Check.NEW_LINE, actual, min, max);
+  }
+
+  int inRange(Supplier<String> message, int min, int max, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(message.get() + Check.NEW_LINE, actual, min, max);
+  }
+
+  long inRange(long min, long max, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(Check.THE_ACTUAL_MUST_BE_IN_RANGE, actual, min, max);
+  }
+
+  long inRange(String message, long min, long max, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(message + Check.NEW_LINE, actual, min, max);
+  }
+
+  long inRange(Supplier<String> message, long min, long max, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(message.get() + Check.NEW_LINE, actual, min, max);
+  }
+
+  double inRange(double min, double max, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(Check.THE_ACTUAL_MUST_BE_IN_RANGE, actual, min, max);
+  }
+
+  double inRange(String message, double min, double max, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(message + Check.NEW_LINE, actual, min, max);
+  }
+
+  double inRange(Supplier<String> message, double min, double max, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("inRange");
+    }
+    if (min <= actual && actual <= max) {
+      return actual;
+    }
+    CheckMetrics.failure("inRange");
+    throw failure(message.get() + Check.NEW_LINE, actual, min, max);
+  }
+
+  int isPositive(int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(Check.THE_ACTUAL_MUST_BE_POSITIVE, actual);
+  }
+
+  int isPositive(String message, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(message + Check.NEW_LINE, actual);
+  }
+
+  int isPositive(Supplier<String> message, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(message.get() + Check.NEW_LINE, actual);
+  }
+
+  long isPositive(long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(Check.THE_ACTUAL_MUST_BE_POSITIVE, actual);
+  }
+
+  long isPositive(String message, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(message + Check.NEW_LINE, actual);
+  }
+
+  long isPositive(Supplier<String> message, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(message.get() + Check.NEW_LINE, actual);
+  }
+
+  double isPositive(double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(Check.THE_ACTUAL_MUST_BE_POSITIVE, actual);
+  }
+
+  double isPositive(String message, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(message + Check.NEW_LINE, actual);
+  }
+
+  double isPositive(Supplier<String> message, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isPositive");
+    }
+    if (actual > 0) {
+      return actual;
+    }
+    CheckMetrics.failure("isPositive");
+    throw failure(message.get() + Check.NEW_LINE, actual);
+  }
+
+  <O> O notContains(Collection<O> collection, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContains");
+    }
+    if (collection.contains(actual)) {
+      CheckMetrics.failure("notContains");
+      throw failure(Check.THE_COLLECTION_MUST_NOT_CONTAIN, actual);
+    }
+    return actual;
+  }
+
+  <O> O notContains(String message, Collection<O> collection, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContains");
+    }
+    if (collection.contains(actual)) {
+      CheckMetrics.failure("notContains");
+      throw failure(message + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  <O> O notContains(Supplier<String> message, Collection<O> collection, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContains");
+    }
+    if (collection.contains(actual)) {
+      CheckMetrics.failure("notContains");
+      throw failure(message.get() + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  <O,V> O notContainsKey(Map<O,V> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContainsKey");
+    }
+    if (map.containsKey(actual)) {
+      CheckMetrics.failure("notContainsKey");
+      throw failure(Check.THE_MAP_MUST_NOT_CONTAIN_KEY, actual);
+    }
+    return actual;
+  }
+
+  <O,V> O notContainsKey(String message, Map<O,V> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContainsKey");
+    }
+    if (map.containsKey(actual)) {
+      CheckMetrics.failure("notContainsKey");
+      throw failure(message + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  <O,V> O notContainsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContainsKey");
+    }
+    if (map.containsKey(actual)) {
+      CheckMetrics.failure("notContainsKey");
+      throw failure(message.get() + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  <K, O> O notContainsValue(Map<K,O> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContainsValue");
+    }
+    if (map.containsValue(actual)) {
+      CheckMetrics.failure("notContainsValue");
+      throw failure(Check.THE_MAP_MUST_NOT_CONTAIN_VALUE, actual);
+    }
+    return actual;
+  }
+
+  <K, O> O notContainsValue(String message, Map<K,O> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContainsValue");
+    }
+    if (map.containsValue(actual)) {
+      CheckMetrics.failure("notContainsValue");
+      throw failure(message + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  <K, O> O notContainsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContainsValue");
+    }
+    if (map.containsValue(actual)) {
+      CheckMetrics.failure("notContainsValue");
+      throw failure(message.get() + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  String notEmpty(String actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEmpty");
+    }
+    if (actual == null) {
+      CheckMetrics.failure("notEmpty");
+      throw failure(Check.THE_ACTUAL_IS_NULL);
+    }
+    if (actual.trim().length() == 0) {
+      CheckMetrics.failure("notEmpty");
+      throw failure(Check.THE_ACTUAL_IS_EMPTY);
+    }
+    return actual;
+  }
+
+  String notEmpty(String message, String actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEmpty");
+    }
+    if (actual == null) {
+      CheckMetrics.failure("notEmpty");
+      throw failure(message);
+    }
+    if (actual.trim().length() == 0) {
+      CheckMetrics.failure("notEmpty");
+      throw failure(message);
+    }
+    return actual;
+  }
+
+  String notEmpty(Supplier<String> message, String actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEmpty");
+    }
+    if (actual == null) {
+      CheckMetrics.failure("notEmpty");
+      throw failure(message.get());
+    }
+    if (actual.trim().length() == 0) {
+      CheckMetrics.failure("notEmpty");
+      throw failure(message.get());
+    }
+    return actual;
+  }
+
+  <O> O  notNull(O actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notNull");
+    }
+    if (actual == null) {
+      CheckMetrics.failure("notNull");
+      throw failure(Check.THE_ACTUAL_IS_NULL);
+    }
+    return actual;
+  }
+
+  <O> O notNull(String message, O actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notNull");
+    }
+    if (actual == null) {
+      CheckMetrics.failure("notNull");
+      throw failure(message);
+    }
+    return actual;
+  }
+
+  <O> O notNull(Supplier<String> message, O actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notNull");
+    }
+    if (actual == null) {
+      CheckMetrics.failure("notNull");
+      throw failure(message.get());
+    }
+    return actual;
+  }
+
+  <O> O notEquals(Object expected, O actual){
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEquals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      CheckMetrics.failure("notEquals");
+      throw failure(Check.THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED, actual, expected);
+    }
+    return actual;
+  }
+
+  <O> O notEquals(String message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEquals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      CheckMetrics.failure("notEquals");
+      throw failure(message, actual, expected);
+    }
+    return actual;
+  }
+
+  <O> O notEquals(Supplier<String> message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEquals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      CheckMetrics.failure("notEquals");
+      throw failure(message.get(), actual, expected);
+    }
+    return actual;
+  }
+
+  String notEquals(String expected, String actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEquals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      CheckMetrics.failure("notEquals");
+      throw failure(Check.THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED, actual, expected);
+    }
+    return actual;
+  }
+
+  String notEquals(String message, String expected, String actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEquals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      CheckMetrics.failure("notEquals");
+      throw failure(message, actual, expected);
+    }
+    return actual;
+  }
+
+  String notEquals(Supplier<String> message, String expected, String actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEquals");
+    }
+    //throw NPE on expected intentionally
+    if (expected.equals(actual)) {
+      CheckMetrics.failure("notEquals");
+      throw failure(message.get(), actual, expected);
+    }
+    return actual;
+  }
+
+  int notEqualsInt(int expected, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsInt");
+    }
+    if (expected == actual) {
+      CheckMetrics.failure("notEqualsInt");
+      throw failure(Check.THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED, actual, expected);
+    }
+    return actual;
+  }
+
+  int notEqualsInt(String message, int expected, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsInt");
+    }
+    if (expected == actual) {
+      CheckMetrics.failure("notEqualsInt");
+      throw failure(message, actual, expected);
+    }
+    return actual;
+  }
+
+  int notEqualsInt(Supplier<String> message, int expected, int actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsInt");
+    }
+    if (expected == actual) {
+      CheckMetrics.failure("notEqualsInt");
+      throw failure(message.get(), actual, expected);
+    }
+    return actual;
+  }
+
+  long notEqualsLong(long expected, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsLong");
+    }
+    if (expected == actual) {
+      CheckMetrics.failure("notEqualsLong");
+      throw failure(Check.THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED, actual, expected);
+    }
+    return actual;
+  }
+
+  long notEqualsLong(String message, long expected, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsLong");
+    }
+    if (expected == actual) {
+      CheckMetrics.failure("notEqualsLong");
+      throw failure(message, actual, expected);
+    }
+    return actual;
+  }
+
+  long notEqualsLong(Supplier<String> message, long expected, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsLong");
+    }
+    if (expected == actual) {
+      CheckMetrics.failure("notEqualsLong");
+      throw failure(message.get(), actual, expected);
+    }
+    return actual;
+  }
+
+  double notEqualsDouble(double expected, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsDouble");
+    }
+    if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+      CheckMetrics.failure("notEqualsDouble");
+      throw failure(Check.THE_ACTUAL_MUST_NOT_EQUAL_EXPECTED, actual, expected);
+    }
+    return actual;
+  }
+
+  double notEqualsDouble(String message, double expected, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsDouble");
+    }
+    if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+      CheckMetrics.failure("notEqualsDouble");
+      throw failure(message, actual, expected);
+    }
+    return actual;
+  }
+
+  double notEqualsDouble(Supplier<String> message, double expected, double actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notEqualsDouble");
+    }
+    if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+      CheckMetrics.failure("notEqualsDouble");
+      throw failure(message.get(), actual, expected);
+    }
+    return actual;
+  }
+
+  <O> O  notSame(Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notSame");
+    }
+    //throw NPE on expected intentionally
+    if (expected == actual) {
+      CheckMetrics.failure("notSame");
+      throw failure(Check.THE_ACTUAL_MUST_BE_THE_SAME_AS_EXPECTED, actual, expected);
+    }
+    return actual;
+  }
+
+  <O> O notSame(String message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notSame");
+    }
+    //throw NPE on expected intentionally
+    if (expected == actual) {
+      CheckMetrics.failure("notSame");
+      throw failure(message, actual, expected);
+    }
+    return actual;
+  }
+
+  <O> O notSame(Supplier<String> message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notSame");
+    }
+    //throw NPE on expected intentionally
+    if (expected == actual) {
+      CheckMetrics.failure("notSame");
+      throw failure(message.get(), actual, expected);
+    }
+    return actual;
+  }
+
+  <O> O same(Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("same");
+    }
+    //throw NPE on expected intentionally
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("same");
+    throw failure(Check.THE_ACTUAL_MUST_BE_THE_SAME_AS_EXPECTED, actual, expected);
+  }
+
+  <O> O same(String message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("same");
+    }
+    //throw NPE on expected intentionally
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("same");
+    throw failure(message, actual, expected);
+  }
+
+  <O> O same(Supplier<String> message, Object expected, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("same");
+    }
+    //throw NPE on expected intentionally
+    if (expected == actual) {
+      return actual;
+    }
+    CheckMetrics.failure("same");
+    throw failure(message.get(), actual, expected);
+  }
+
+  void isTrue(boolean actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isTrue");
+    }
+    if (actual) {
+      return;
+    }
+    CheckMetrics.failure("isTrue");
+    throw failure(Check.TRUE_IS_REQUIRED);
+  }
+
+  void isTrue(String message, boolean actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isTrue");
+    }
+    if (actual) {
+      return;
+    }
+    CheckMetrics.failure("isTrue");
+    throw failure(Check.TRUE_IS_REQUIRED);
+  }
+
+  void isTrue(Supplier<String> message, boolean actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("isTrue");
+    }
+    if (actual) {
+      return;
+    }
+    CheckMetrics.failure("isTrue");
+    throw failure(message.get());
+  }
+}
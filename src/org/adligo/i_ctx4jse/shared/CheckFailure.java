@@ -0,0 +1,136 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is the {@link IllegalArgumentException} thrown by {@link Check},
+ * it carries the actual and expected (or min and max) values as fields,
+ * and only formats them into the message when {@link #getMessage()} is called.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CheckFailure extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+  private static final int PREFIX_ONLY = 0;
+  private static final int ACTUAL = 1;
+  private static final int ACTUAL_EXPECTED = 2;
+  private static final int ACTUAL_RANGE = 3;
+
+  private final String prefix;
+  private final transient Object actual;
+  private final transient Object expected;
+  private final transient Object max;
+  private final int lines;
+  private String message;
+
+  public CheckFailure(String message) {
+    this(message, null, null, null, PREFIX_ONLY);
+  }
+
+  public CheckFailure(String prefix, Object actual) {
+    this(prefix, actual, null, null, ACTUAL);
+  }
+
+  public CheckFailure(String prefix, Object actual, Object expected) {
+    this(prefix, actual, expected, null, ACTUAL_EXPECTED);
+  }
+
+  public CheckFailure(String prefix, Object actual, Object min, Object max) {
+    this(prefix, actual, min, max, ACTUAL_RANGE);
+  }
+
+  private CheckFailure(String prefix, Object actual, Object expected, Object max, int lines) {
+    super();
+    this.prefix = prefix;
+    this.actual = actual;
+    this.expected = expected;
+    this.max = max;
+    this.lines = lines;
+    //a StacklessCheckFailure is formatted lazily, since it's usually caught
+    //without reading the message, so a argument mutated after the failure
+    //changes it's message; other failures snapshot the values (as before)
+    if (!(this instanceof StacklessCheckFailure)) {
+      message = format();
+    }
+  }
+
+  public Object getActual() {
+    return actual;
+  }
+
+  /**
+   * @return the expected value or the min of a range
+   */
+  public Object getExpected() {
+    return expected;
+  }
+
+  /**
+   * @return the max of a range or null
+   */
+  public Object getMax() {
+    return max;
+  }
+
+  @Override
+  public String getMessage() {
+    String r = message;
+    if (r == null) {
+      r = format();
+      message = r;
+    }
+    return r;
+  }
+
+  /**
+   * @return the message prefix, before the actual, expected or range lines
+   */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * This formats the message before the (transient) values are dropped by
+   * Java serialization, so that a failure serialized before
+   * {@link #getMessage()} is called (i.e. over RMI) keeps it's detail.  It is
+   * protected so that sub classes inherit it.
+   * @return this
+   */
+  protected Object writeReplace() {
+    getMessage();
+    return this;
+  }
+
+  private String format() {
+    switch (lines) {
+      case ACTUAL:
+        return new CheckMessageBuilder(prefix, 1).appendActual(actual).toString();
+      case ACTUAL_EXPECTED:
+        return new CheckMessageBuilder(prefix, 2).appendActual(actual)
+            .appendExpected(expected).toString();
+      case ACTUAL_RANGE:
+        return new CheckMessageBuilder(prefix, 3).appendActual(actual)
+            .appendRange(expected, max).toString();
+      default:
+        return prefix;
+    }
+  }
+}
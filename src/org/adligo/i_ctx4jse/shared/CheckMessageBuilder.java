@@ -0,0 +1,220 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This builds a {@link Check} failure message in one presized
+ * {@link StringBuilder}, writing the prefix and the actual, expected, range or
+ * index lines in a single pass.  Each value is capped at
+ * {@link #getMaxValueLength()} characters, and {@link Collection}s and
+ * {@link Map}s are written element by element only up to the cap, so that a
+ * failure on a huge collection doesn't stringify all of it.  A truncated value
+ * ends with ... (n more), where n is the number of elements (or chars) left
+ * out.
+ * 
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public class CheckMessageBuilder {
+  public static final int DEFAULT_MAX_VALUE_LENGTH = 1024;
+  public static final String MORE_END = " more)";
+  public static final String MORE_START = "... (";
+  public static final String THIS_COLLECTION = "(this Collection)";
+  public static final String THIS_MAP = "(this Map)";
+  /**
+   * the start and end of a line, plus a short value
+   */
+  private static final int LINE_ESTIMATE = 32;
+  private static volatile int maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
+
+  public static int getMaxValueLength() {
+    return maxValueLength;
+  }
+
+  /**
+   * This sets the cap for the messages built after this call.
+   * @param max the maximum number of characters written for each value,
+   * not counting the ... (n more) ending
+   */
+  public static void setMaxValueLength(int max) {
+    maxValueLength = positive(max);
+  }
+
+  /**
+   * This is Check.isPositive, without recording a check in
+   * {@link CheckMetrics}, since building a message isn't a users check.
+   * @param actual
+   * @return the actual parameter
+   */
+  private static int positive(int actual) {
+    if (actual < 1) {
+      throw new CheckFailure(Check.THE_ACTUAL_MUST_BE_POSITIVE, actual);
+    }
+    return actual;
+  }
+
+  private final int max;
+  private final StringBuilder sb;
+
+  /**
+   * @param prefix the start of the message
+   * @param lines the number of lines which will be appended
+   */
+  public CheckMessageBuilder(String prefix, int lines) {
+    this(prefix, lines, maxValueLength);
+  }
+
+  public CheckMessageBuilder(String prefix, int lines, int maxValueLength) {
+    String p = String.valueOf(prefix);
+    max = positive(maxValueLength);
+    sb = new StringBuilder(p.length() + lines * LINE_ESTIMATE);
+    sb.append(p);
+  }
+
+  public CheckMessageBuilder appendActual(Object actual) {
+    if (actual == null) {
+      sb.append(Check.ACTUAL_NULL_LINE);
+      return this;
+    }
+    return appendLine(Check.ACTUAL_START_LINE, actual);
+  }
+
+  public CheckMessageBuilder appendActual(long actual) {
+    sb.append(Check.ACTUAL_START_LINE).append(actual).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  public CheckMessageBuilder appendActual(double actual) {
+    sb.append(Check.ACTUAL_START_LINE).append(actual).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  public CheckMessageBuilder appendExpected(Object expected) {
+    if (expected == null) {
+      sb.append(Check.EXPECTED_NULL_LINE);
+      return this;
+    }
+    return appendLine(Check.EXPECTED_START_LINE, expected);
+  }
+
+  public CheckMessageBuilder appendExpected(long expected) {
+    sb.append(Check.EXPECTED_START_LINE).append(expected).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  public CheckMessageBuilder appendExpected(double expected) {
+    sb.append(Check.EXPECTED_START_LINE).append(expected).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  public CheckMessageBuilder appendIndex(int index) {
+    sb.append(Check.INDEX_START_LINE).append(index).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  private CheckMessageBuilder appendLine(String start, Object value) {
+    sb.append(start);
+    appendValue(value, max);
+    sb.append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  public CheckMessageBuilder appendRange(Object min, Object max) {
+    appendLine(Check.MIN_START_LINE, min);
+    return appendLine(Check.MAX_START_LINE, max);
+  }
+
+  public CheckMessageBuilder appendRange(long min, long max) {
+    sb.append(Check.MIN_START_LINE).append(min).append(Check.QUOTE_NEW_LINE);
+    sb.append(Check.MAX_START_LINE).append(max).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  public CheckMessageBuilder appendRange(double min, double max) {
+    sb.append(Check.MIN_START_LINE).append(min).append(Check.QUOTE_NEW_LINE);
+    sb.append(Check.MAX_START_LINE).append(max).append(Check.QUOTE_NEW_LINE);
+    return this;
+  }
+
+  /**
+   * @param value
+   * @param cap the number of chars this value may use
+   */
+  private void appendValue(Object value, int cap) {
+    if (value instanceof Collection) {
+      Collection<?> c = (Collection<?>) value;
+      int start = sb.length();
+      sb.append('[');
+      int count = 0;
+      for (Object e : c) {
+        int used = sb.length() - start;
+        if (used >= cap) {
+          appendMore(c.size() - count);
+          break;
+        }
+        if (count > 0) {
+          sb.append(", ");
+        }
+        appendValue(e == c ? THIS_COLLECTION : e, cap - used);
+        count++;
+      }
+      sb.append(']');
+    } else if (value instanceof Map) {
+      Map<?, ?> m = (Map<?, ?>) value;
+      int start = sb.length();
+      sb.append('{');
+      int count = 0;
+      for (Map.Entry<?, ?> e : m.entrySet()) {
+        int used = sb.length() - start;
+        if (used >= cap) {
+          appendMore(m.size() - count);
+          break;
+        }
+        if (count > 0) {
+          sb.append(", ");
+        }
+        Object k = e.getKey();
+        appendValue(k == m ? THIS_MAP : k, cap - used);
+        sb.append('=');
+        Object v = e.getValue();
+        appendValue(v == m ? THIS_MAP : v, Math.max(1, cap - (sb.length() - start)));
+        count++;
+      }
+      sb.append('}');
+    } else {
+      String s = String.valueOf(value);
+      if (s.length() > cap) {
+        sb.append(s, 0, cap);
+        appendMore(s.length() - cap);
+      } else {
+        sb.append(s);
+      }
+    }
+  }
+
+  private void appendMore(int more) {
+    sb.append(MORE_START).append(more).append(MORE_END);
+  }
+
+  @Override
+  public String toString() {
+    return sb.toString();
+  }
+}
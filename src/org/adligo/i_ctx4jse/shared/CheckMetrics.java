@@ -0,0 +1,83 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This holds the optional {@link I_CheckRecorder}.  The recording is
+ * switched on with the system property org.adligo.i_ctx4jse.checkMetrics, set
+ * to failures (only failures are recorded) or all (every assertion and the
+ * failures are recorded).  The flags are static final, so when they are off
+ * the JIT removes the recording and a assertion costs no more than one static
+ * final boolean branch.
+ * 
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public class CheckMetrics {
+  public static final String ALL = "all";
+  public static final String FAILURES_ONLY = "failures";
+  public static final String PROPERTY = "org.adligo.i_ctx4jse.checkMetrics";
+  /**
+   * true when every assertion is recorded
+   */
+  public static final boolean CHECKS;
+  /**
+   * true when failures are recorded
+   */
+  public static final boolean FAILURES;
+  public static final I_CheckRecorder NO_OP = new I_CheckRecorder() {
+
+    @Override
+    public void check(String type) {
+    }
+
+    @Override
+    public void failure(String type) {
+    }
+  };
+
+  static {
+    String mode = System.getProperty(PROPERTY, "");
+    CHECKS = ALL.equals(mode);
+    FAILURES = CHECKS || FAILURES_ONLY.equals(mode);
+  }
+
+  private static volatile I_CheckRecorder recorder = NO_OP;
+
+  public static void check(String type) {
+    if (CHECKS) {
+      recorder.check(type);
+    }
+  }
+
+  public static void failure(String type) {
+    if (FAILURES) {
+      recorder.failure(type);
+    }
+  }
+
+  public static I_CheckRecorder getRecorder() {
+    return recorder;
+  }
+
+  public static void setRecorder(I_CheckRecorder recorder) {
+    CheckMetrics.recorder = Check.notNull(recorder);
+  }
+
+  private CheckMetrics() {
+  }
+}
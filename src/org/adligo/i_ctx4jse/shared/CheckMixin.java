@@ -3,6 +3,7 @@ package org.adligo.i_ctx4jse.shared;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * This mixin provides Tests4j like assertion methods, which throw
@@ -12,6 +13,8 @@ import java.util.Objects;
  * the {@link Objects#requireNonNull(Object)} method pattern.  However
  * this class (yep it's compiled into a bytecode .class file :) ) 
  * reduces the necessary typing by using the mixin style.<br/>
+ *   The methods with a {@link Supplier} message only call it on failure,
+ * so that the success path doesn't need to build the message.<br/>
  *   Also note that String.format is NOT used to to some incompatibility issues
  * with some tools that this code is designed to work with.
  * @author scott
@@ -35,6 +38,271 @@ import java.util.Objects;
  */
 public interface CheckMixin {
 
+  /**
+   * @return true to throw {@link StacklessCheckFailure}s which do NOT fill in
+   * the stack trace, see {@link StacklessCheckMixin}
+   */
+  default boolean isStackless() {
+    return false;
+  }
+
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O[] allNotNull(O[] actual) {
+    return CheckCore.of(isStackless()).allNotNull(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O[] allNotNull(String message, O[] actual) {
+    return CheckCore.of(isStackless()).allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O[] allNotNull(Supplier<String> message, O[] actual) {
+    return CheckCore.of(isStackless()).allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param actual
+   * @return the actual parameter
+   */
+  default <C extends Collection<?>> C allNotNull(C actual) {
+    return CheckCore.of(isStackless()).allNotNull(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default <C extends Collection<?>> C allNotNull(String message, C actual) {
+    return CheckCore.of(isStackless()).allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null,
+   * reporting the index of the first null element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default <C extends Collection<?>> C allNotNull(Supplier<String> message, C actual) {
+    return CheckCore.of(isStackless()).allNotNull(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param actual
+   * @return the actual parameter
+   */
+  default String[] allNotEmpty(String[] actual) {
+    return CheckCore.of(isStackless()).allNotEmpty(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default String[] allNotEmpty(String message, String[] actual) {
+    return CheckCore.of(isStackless()).allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default String[] allNotEmpty(Supplier<String> message, String[] actual) {
+    return CheckCore.of(isStackless()).allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param actual
+   * @return the actual parameter
+   */
+  default <C extends Collection<String>> C allNotEmpty(C actual) {
+    return CheckCore.of(isStackless()).allNotEmpty(actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default <C extends Collection<String>> C allNotEmpty(String message, C actual) {
+    return CheckCore.of(isStackless()).allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that the actual and each of it's elements are NOT null
+   * or empty (see {@link #notEmpty(String)}), reporting the index of the
+   * first failing element.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default <C extends Collection<String>> C allNotEmpty(Supplier<String> message, C actual) {
+    return CheckCore.of(isStackless()).allNotEmpty(message, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default int[] allInRange(int min, int max, int[] actual) {
+    return CheckCore.of(isStackless()).allInRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default int[] allInRange(String message, int min, int max, int[] actual) {
+    return CheckCore.of(isStackless()).allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default int[] allInRange(Supplier<String> message, int min, int max, int[] actual) {
+    return CheckCore.of(isStackless()).allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default long[] allInRange(long min, long max, long[] actual) {
+    return CheckCore.of(isStackless()).allInRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default long[] allInRange(String message, long min, long max, long[] actual) {
+    return CheckCore.of(isStackless()).allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default long[] allInRange(Supplier<String> message, long min, long max, long[] actual) {
+    return CheckCore.of(isStackless()).allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default double[] allInRange(double min, double max, double[] actual) {
+    return CheckCore.of(isStackless()).allInRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default double[] allInRange(String message, double min, double max, double[] actual) {
+    return CheckCore.of(isStackless()).allInRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual[i] &lt;= max for each element without
+   * any auto boxing, reporting the index of the first failing element.
+   * The elements are first scanned with a branch free min / max loop.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default double[] allInRange(Supplier<String> message, double min, double max, double[] actual) {
+    return CheckCore.of(isStackless()).allInRange(message, min, max, actual);
+  }
 
   /**
    * This method asserts that the actual parameter is contained
@@ -57,7 +325,19 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O> O contains(String message, Collection<O> collection, O actual) {
-    return Check.contains(message, collection, actual);
+    return CheckCore.of(isStackless()).contains(message, collection, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the collection.
+   * @param message supplies the failure message, which is only called on failure
+   * @param collection
+   * @param actual
+   * @return the actual parameter
+   */
+  public default <O> O contains(Supplier<String> message, Collection<O> collection, O actual) {
+    return CheckCore.of(isStackless()).contains(message, collection, actual);
   }
 
   /**
@@ -69,7 +349,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O,V> O containsKey(Map<O,V> map, O actual) {
-    return Check.containsKey(map, actual);
+    return CheckCore.of(isStackless()).containsKey(map, actual);
   }
 
   /**
@@ -81,7 +361,19 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O,V> O containsKey(String message, Map<O,V> map, O actual) {
-    return Check.containsKey(message, map, actual);
+    return CheckCore.of(isStackless()).containsKey(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public default <O,V> O containsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    return CheckCore.of(isStackless()).containsKey(message, map, actual);
   }
 
   /**
@@ -93,7 +385,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <K, O> O containsValue(Map<K,O> map, O actual) {
-    return Check.containsValue(map, actual);
+    return CheckCore.of(isStackless()).containsValue(map, actual);
   }
 
   /**
@@ -105,16 +397,28 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <K, O> O containsValue(String message, Map<K,O> map, O actual) {
-    return Check.containsValue(message,map, actual);
+    return CheckCore.of(isStackless()).containsValue(message,map, actual);
   }
   
+  /**
+   * This method asserts that the actual parameter is contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public default <K, O> O containsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    return CheckCore.of(isStackless()).containsValue(message,map, actual);
+  }
+
   /**
    * @param expected
    * @param actual
    * @return the actual parameter
    */
   default <O> O equals(Object expected, O actual) {
-    return Check.equals(expected, actual);
+    return CheckCore.of(isStackless()).equals(expected, actual);
   }
 
   /**
@@ -125,7 +429,18 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O equals(String message, Object expected, O actual) {
-    return Check.equals(message, expected, actual);
+    return CheckCore.of(isStackless()).equals(message, expected, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O equals(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.of(isStackless()).equals(message, expected, actual);
   }
 
   /**
@@ -134,7 +449,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default String equals(String expected, String actual){
-    return Check.equals(expected, actual);
+    return CheckCore.of(isStackless()).equals(expected, actual);
   }
 
   /**
@@ -144,17 +459,331 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default String equals(String message, String expected, String actual){
-    return Check.equals(message, expected, actual);
+    return CheckCore.of(isStackless()).equals(message, expected, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default String equals(Supplier<String> message, String expected, String actual){
+    return CheckCore.of(isStackless()).equals(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default int equalsInt(int expected, int actual) {
+    return CheckCore.of(isStackless()).equalsInt(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default int equalsInt(String message, int expected, int actual) {
+    return CheckCore.of(isStackless()).equalsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default int equalsInt(Supplier<String> message, int expected, int actual) {
+    return CheckCore.of(isStackless()).equalsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default long equalsLong(long expected, long actual) {
+    return CheckCore.of(isStackless()).equalsLong(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default long equalsLong(String message, long expected, long actual) {
+    return CheckCore.of(isStackless()).equalsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default long equalsLong(Supplier<String> message, long expected, long actual) {
+    return CheckCore.of(isStackless()).equalsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default double equalsDouble(double expected, double actual) {
+    return CheckCore.of(isStackless()).equalsDouble(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default double equalsDouble(String message, double expected, double actual) {
+    return CheckCore.of(isStackless()).equalsDouble(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default double equalsDouble(Supplier<String> message, double expected, double actual) {
+    return CheckCore.of(isStackless()).equalsDouble(message, expected, actual);
   }
 
   default void isFalse(boolean actual){
-    Check.isFalse(actual);
+    CheckCore.of(isStackless()).isFalse(actual);
   }
 
   default void isFalse(String message, boolean actual){
-    Check.isFalse(message, actual);
+    CheckCore.of(isStackless()).isFalse(message, actual);
+  }
+
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   */
+  default void isFalse(Supplier<String> message, boolean actual){
+    CheckCore.of(isStackless()).isFalse(message, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default int inRange(int min, int max, int actual) {
+    return CheckCore.of(isStackless()).inRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default int inRange(String message, int min, int max, int actual) {
+    return CheckCore.of(isStackless()).inRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default int inRange(Supplier<String> message, int min, int max, int actual) {
+    return CheckCore.of(isStackless()).inRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default long inRange(long min, long max, long actual) {
+    return CheckCore.of(isStackless()).inRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default long inRange(String message, long min, long max, long actual) {
+    return CheckCore.of(isStackless()).inRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default long inRange(Supplier<String> message, long min, long max, long actual) {
+    return CheckCore.of(isStackless()).inRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * Note NaN is NOT in any range.
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default double inRange(double min, double max, double actual) {
+    return CheckCore.of(isStackless()).inRange(min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * Note NaN is NOT in any range.
+   * @param message
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default double inRange(String message, double min, double max, double actual) {
+    return CheckCore.of(isStackless()).inRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that min &lt;= actual &lt;= max without any auto boxing.
+   * Note NaN is NOT in any range.
+   * @param message supplies the failure message, which is only called on failure
+   * @param min the inclusive minimum
+   * @param max the inclusive maximum
+   * @param actual
+   * @return the actual parameter
+   */
+  default double inRange(Supplier<String> message, double min, double max, double actual) {
+    return CheckCore.of(isStackless()).inRange(message, min, max, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param actual
+   * @return the actual parameter
+   */
+  default int isPositive(int actual) {
+    return CheckCore.of(isStackless()).isPositive(actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default int isPositive(String message, int actual) {
+    return CheckCore.of(isStackless()).isPositive(message, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default int isPositive(Supplier<String> message, int actual) {
+    return CheckCore.of(isStackless()).isPositive(message, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param actual
+   * @return the actual parameter
+   */
+  default long isPositive(long actual) {
+    return CheckCore.of(isStackless()).isPositive(actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default long isPositive(String message, long actual) {
+    return CheckCore.of(isStackless()).isPositive(message, actual);
   }
 
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default long isPositive(Supplier<String> message, long actual) {
+    return CheckCore.of(isStackless()).isPositive(message, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param actual
+   * @return the actual parameter
+   */
+  default double isPositive(double actual) {
+    return CheckCore.of(isStackless()).isPositive(actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message
+   * @param actual
+   * @return the actual parameter
+   */
+  default double isPositive(String message, double actual) {
+    return CheckCore.of(isStackless()).isPositive(message, actual);
+  }
+
+  /**
+   * This asserts that the actual is greater than zero without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default double isPositive(Supplier<String> message, double actual) {
+    return CheckCore.of(isStackless()).isPositive(message, actual);
+  }
 
   /**
    * This method asserts that the actual parameter is NOT contained
@@ -165,7 +794,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O> O notContains(Collection<O> collection, O actual) {
-    return Check.notContains(collection, actual);
+    return CheckCore.of(isStackless()).notContains(collection, actual);
   }
 
   /**
@@ -177,7 +806,19 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O> O notContains(String message, Collection<O> collection, O actual) {
-    return Check.notContains(message, collection, actual);
+    return CheckCore.of(isStackless()).notContains(message, collection, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is NOT contained
+   * in the collection.
+   * @param message supplies the failure message, which is only called on failure
+   * @param collection
+   * @param actual
+   * @return the actual parameter
+   */
+  public default <O> O notContains(Supplier<String> message, Collection<O> collection, O actual) {
+    return CheckCore.of(isStackless()).notContains(message, collection, actual);
   }
 
   /**
@@ -189,7 +830,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O,V> O notContainsKey(Map<O,V> map, O actual) {
-    return Check.notContainsKey(map, actual);
+    return CheckCore.of(isStackless()).notContainsKey(map, actual);
   }
 
   /**
@@ -201,7 +842,19 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <O,V> O notContainsKey(String message, Map<O,V> map, O actual) {
-    return Check.notContainsKey(message, map, actual);
+    return CheckCore.of(isStackless()).notContainsKey(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is NOT contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public default <O,V> O notContainsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    return CheckCore.of(isStackless()).notContainsKey(message, map, actual);
   }
 
   /**
@@ -225,7 +878,19 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   public default <K, O> O notContainsValue(String message, Map<K,O> map, O actual) {
-    return Check.notContainsValue(message, map, actual);
+    return CheckCore.of(isStackless()).notContainsValue(message, map, actual);
+  }
+
+  /**
+   * This method asserts that the actual parameter is NOT contained
+   * in the map as a key.
+   * @param message supplies the failure message, which is only called on failure
+   * @param map
+   * @param actual
+   * @return the actual parameter
+   */
+  public default <K, O> O notContainsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    return CheckCore.of(isStackless()).notContainsValue(message, map, actual);
   }
 
   /**
@@ -234,7 +899,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default String notEmpty(String actual){
-    return Check.notEmpty(actual);
+    return CheckCore.of(isStackless()).notEmpty(actual);
   }
 
   /**
@@ -244,16 +909,26 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default String notEmpty(String message, String actual){
-    return Check.notEmpty(message, actual);
+    return CheckCore.of(isStackless()).notEmpty(message, actual);
   }
   
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default String notEmpty(Supplier<String> message, String actual){
+    return CheckCore.of(isStackless()).notEmpty(message, actual);
+  }
+
   /**
    * 
    * @param actual
    * @return the actual parameter
    */
   default <O> O notNull(O actual){
-    return Check.notNull(actual);
+    return CheckCore.of(isStackless()).notNull(actual);
   }
 
   /**
@@ -263,7 +938,17 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O notNull(String message, O actual){
-    return Check.notNull(message, actual);
+    return CheckCore.of(isStackless()).notNull(message, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O notNull(Supplier<String> message, O actual){
+    return CheckCore.of(isStackless()).notNull(message, actual);
   }
 
   /**
@@ -273,7 +958,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O notEquals(Object expected, O actual){
-    return Check.notEquals(expected, actual);
+    return CheckCore.of(isStackless()).notEquals(expected, actual);
   }
 
   /**
@@ -284,7 +969,18 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O notEquals(String message, Object expected, O actual) {
-    return Check.notEquals(message, expected, actual);
+    return CheckCore.of(isStackless()).notEquals(message, expected, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O notEquals(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.of(isStackless()).notEquals(message, expected, actual);
   }
 
   /**
@@ -294,7 +990,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default String notEquals(String expected, String actual) {
-    return Check.notEquals(expected, actual);
+    return CheckCore.of(isStackless()).notEquals(expected, actual);
   }
 
   /**
@@ -305,7 +1001,120 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default String notEquals(String message, String expected, String actual) {
-    return Check.notEquals(message, expected, actual);
+    return CheckCore.of(isStackless()).notEquals(message, expected, actual);
+  }
+
+  /**
+   * 
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default String notEquals(Supplier<String> message, String expected, String actual) {
+    return CheckCore.of(isStackless()).notEquals(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default int notEqualsInt(int expected, int actual) {
+    return CheckCore.of(isStackless()).notEqualsInt(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default int notEqualsInt(String message, int expected, int actual) {
+    return CheckCore.of(isStackless()).notEqualsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default int notEqualsInt(Supplier<String> message, int expected, int actual) {
+    return CheckCore.of(isStackless()).notEqualsInt(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default long notEqualsLong(long expected, long actual) {
+    return CheckCore.of(isStackless()).notEqualsLong(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default long notEqualsLong(String message, long expected, long actual) {
+    return CheckCore.of(isStackless()).notEqualsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default long notEqualsLong(Supplier<String> message, long expected, long actual) {
+    return CheckCore.of(isStackless()).notEqualsLong(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default double notEqualsDouble(double expected, double actual) {
+    return CheckCore.of(isStackless()).notEqualsDouble(expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default double notEqualsDouble(String message, double expected, double actual) {
+    return CheckCore.of(isStackless()).notEqualsDouble(message, expected, actual);
+  }
+
+  /**
+   * This asserts the primitive values are NOT equal without any auto boxing.
+   * Note this compares like {@link Double#equals(Object)}, so NaN equals NaN
+   * and 0.0 does NOT equal -0.0.
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default double notEqualsDouble(Supplier<String> message, double expected, double actual) {
+    return CheckCore.of(isStackless()).notEqualsDouble(message, expected, actual);
   }
 
   /**
@@ -315,7 +1124,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O notSame(Object expected, O actual) {
-    return Check.notSame(expected, actual);
+    return CheckCore.of(isStackless()).notSame(expected, actual);
   }
 
   /**
@@ -325,7 +1134,17 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O notSame(String message, Object expected, O actual) {
-    return Check.notSame(message, expected, actual);
+    return CheckCore.of(isStackless()).notSame(message, expected, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O notSame(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.of(isStackless()).notSame(message, expected, actual);
   }
 
   /**
@@ -334,7 +1153,7 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O same(Object expected, O actual) {
-    return Check.same(expected, actual);
+    return CheckCore.of(isStackless()).same(expected, actual);
   }
 
   /**
@@ -344,14 +1163,31 @@ public interface CheckMixin {
    * @return the actual parameter
    */
   default <O> O  same(String message, Object expected, O actual) {
-    return Check.same(message, expected, actual);
+    return CheckCore.of(isStackless()).same(message, expected, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   * @param expected
+   * @param actual
+   * @return the actual parameter
+   */
+  default <O> O  same(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.of(isStackless()).same(message, expected, actual);
   }
 
   default void isTrue(boolean actual) {
-    Check.isTrue(actual);
+    CheckCore.of(isStackless()).isTrue(actual);
   }
 
   default void isTrue(String message, boolean actual) {
-    Check.isTrue(message, actual);
+    CheckCore.of(isStackless()).isTrue(message, actual);
+  }
+
+  /**
+   * @param message supplies the failure message, which is only called on failure
+   */
+  default void isTrue(Supplier<String> message, boolean actual) {
+    CheckCore.of(isStackless()).isTrue(message, actual);
   }
 }
@@ -0,0 +1,186 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is a child (i.e. per request) context, which models the tree of
+ * contexts implied by {@link I_JseCtxAware}.  Creating a child costs O(1),
+ * nothing is copied from the parent.  The {@link #get(Class)} method first
+ * checks the child local overrides, and then falls through to the parent,
+ * which SHOULD be frozen (effectively immutable), since the child never writes
+ * to it.  The {@link #create(Class)} method passes this (the leaf most) context
+ * to the constructor of {@link I_JseCtxAware} classes.<br/>
+ * <br/>
+ * The child local overrides are held in a small open addressed (linear
+ * probing) table of alternating keys and values, which is replaced (copy on
+ * write) by {@link #set(Class, Object)}, so that reads are lock free.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ChildCtx implements I_JseCtx {
+  /**
+   * the initial number of key value slots
+   */
+  static final int INITIAL_CAPACITY = 4;
+
+  static int index(Class<?> clazz, int mask) {
+    int h = clazz.hashCode();
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  private final I_JseCreator creator;
+  private final I_JseCtx parent;
+  /**
+   * the keys are at even indexes, the values at the following odd index,
+   * null until the first child local override
+   */
+  private volatile Object[] table;
+  /**
+   * guarded by this
+   */
+  private int size;
+
+  /**
+   * @param parent the parent, which SHOULD be frozen
+   * @param creator used by {@link #create(Class)} with this as the leaf
+   * most context
+   */
+  public ChildCtx(I_JseCtx parent, I_JseCreator creator) {
+    this.parent = Check.notNull(parent);
+    this.creator = Check.notNull(creator);
+  }
+
+  /**
+   * @return a new child of this context
+   */
+  public ChildCtx child() {
+    return new ChildCtx(this, creator);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz) {
+    return creator.create(clazz, this);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    return creator.create(clazz, leaf);
+  }
+
+  /**
+   * Note the String (name) methods are delegated to the parent.
+   */
+  @Override
+  public Object create(String name) {
+    return parent.create(name);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T get(Class<T> clazz) {
+    Object[] t = table;
+    if (t != null) {
+      int mask = (t.length >>> 1) - 1;
+      int i = index(clazz, mask);
+      while (true) {
+        Object key = t[i << 1];
+        if (key == clazz) {
+          return (T) t[(i << 1) + 1];
+        } else if (key == null) {
+          break;
+        }
+        i = (i + 1) & mask;
+      }
+    }
+    return parent.get(clazz);
+  }
+
+  /**
+   * Note the String (name) methods are delegated to the parent.
+   */
+  @Override
+  public Object get(String name) {
+    return parent.get(name);
+  }
+
+  public I_JseCreator getCreator() {
+    return creator;
+  }
+
+  public I_JseCtx getParent() {
+    return parent;
+  }
+
+  @Override
+  public long getTime() {
+    return parent.getTime();
+  }
+
+  @Override
+  public long getNanoTime() {
+    return parent.getNanoTime();
+  }
+
+  /**
+   * This sets a child local override, which is NOT visible to the parent.
+   * @param <T>
+   * @param clazz
+   * @param instance
+   * @return this
+   */
+  public synchronized <T> ChildCtx set(Class<T> clazz, T instance) {
+    Check.notNull(clazz);
+    Check.notNull(instance);
+    Object[] t = table;
+    int capacity = t == null ? INITIAL_CAPACITY : t.length >>> 1;
+    //keep the load factor at or below one half, so probes stay short
+    if ((size + 1) << 1 > capacity) {
+      capacity = capacity << 1;
+    }
+    Object[] copy = new Object[capacity << 1];
+    int mask = capacity - 1;
+    int added = 1;
+    if (t != null) {
+      for (int j = 0; j < t.length; j += 2) {
+        if (t[j] != null) {
+          if (t[j] == clazz) {
+            added = 0;
+          } else {
+            put(copy, mask, (Class<?>) t[j], t[j + 1]);
+          }
+        }
+      }
+    }
+    put(copy, mask, clazz, instance);
+    size += added;
+    table = copy;
+    return this;
+  }
+
+  private static void put(Object[] t, int mask, Class<?> clazz, Object instance) {
+    int i = index(clazz, mask);
+    while (t[i << 1] != null) {
+      i = (i + 1) & mask;
+    }
+    t[i << 1] = clazz;
+    t[(i << 1) + 1] = instance;
+  }
+}
@@ -0,0 +1,83 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is a base class for contexts which decorate another {@link I_JseCtx},
+ * all of the methods are delegated, so sub classes only override the methods
+ * they decorate.  The class methods pass this as the leaf most context, so
+ * the {@link I_JseCtxAware} instances created through this context get this
+ * context, sub classes which decorate create or get SHOULD override the leaf
+ * overloads, which every call goes through.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public abstract class DelegatingJseCtx implements I_JseCtx {
+  private final I_JseCtx delegate;
+
+  public DelegatingJseCtx(I_JseCtx delegate) {
+    this.delegate = Check.notNull(delegate);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz) {
+    return create(clazz, this);
+  }
+
+  @Override
+  public <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    return delegate.create(clazz, leaf);
+  }
+
+  @Override
+  public Object create(String name) {
+    return delegate.create(name);
+  }
+
+  @Override
+  public <T> T get(Class<T> clazz) {
+    return get(clazz, this);
+  }
+
+  @Override
+  public <T> T get(Class<T> clazz, I_JseCtx leaf) {
+    return delegate.get(clazz, leaf);
+  }
+
+  @Override
+  public Object get(String name) {
+    return delegate.get(name);
+  }
+
+  public I_JseCtx getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public long getNanoTime() {
+    return delegate.getNanoTime();
+  }
+
+  @Override
+  public long getTime() {
+    return delegate.getTime();
+  }
+}
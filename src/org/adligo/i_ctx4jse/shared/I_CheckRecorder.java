@@ -0,0 +1,43 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is the hook which {@link Check} and {@link StacklessCheck} (and so
+ * the mixins) call, through {@link CheckMetrics}, to record the assertions
+ * which were made and which failed, by assertion type (i.e. the method name
+ * notNull or equals).
+ * 
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public interface I_CheckRecorder {
+
+  /**
+   * This is called before each assertion, when {@link CheckMetrics#CHECKS}
+   * is true.
+   * @param type
+   */
+  void check(String type);
+
+  /**
+   * This is called before a assertion throws it's failure, when
+   * {@link CheckMetrics#FAILURES} is true.
+   * @param type
+   */
+  void failure(String type);
+}
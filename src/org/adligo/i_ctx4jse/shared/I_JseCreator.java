@@ -0,0 +1,43 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is the strategy used by {@link I_JseCtx} implementations to
+ * implement the {@link I_JseCtx#create(Class)} method.  Implementations
+ * may use reflection (JSE on the JVM) or a Map&lt;Class, Supplier&gt; or
+ * switch (GWT and Native Compilation).  Note that the context passed in is
+ * the leaf most context, which is passed to the constructor of
+ * {@link I_JseCtxAware} classes.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public interface I_JseCreator {
+
+  /**
+   * create a new instance of the class
+   * @param <T>
+   * @param clazz
+   * @param ctx the leaf most context
+   * @return
+   */
+  public <T> T create(Class<T> clazz, I_JseCtx ctx);
+}
@@ -59,6 +59,21 @@ public interface I_JseCtx extends I_Ctx {
    */
   public <T> T create(Class<T> clazz);
 
+  /**
+   * This creates a new instance like {@link #create(Class)}, however
+   * {@link I_JseCtxAware} instances are created with the leaf, so that a
+   * decorating context (i.e. {@link DelegatingJseCtx}) is the context of the
+   * instances created through it.
+   * 
+   * @param <T>
+   * @param clazz
+   * @param leaf the leaf most context
+   * @return
+   */
+  default <T> T create(Class<T> clazz, I_JseCtx leaf) {
+    return create(clazz);
+  }
+
   
   /**
    * This overloads the method with the same name I_Ctx#get(String) also
@@ -73,8 +88,49 @@ public interface I_JseCtx extends I_Ctx {
    */
   public <T> T get(Class<T> clazz);
 
+  /**
+   * This gets the instance like {@link #get(Class)}, however if it doesn't
+   * exist it is created with the leaf, see {@link #create(Class, I_JseCtx)}.
+   * 
+   * @param <T>
+   * @param clazz
+   * @param leaf the leaf most context
+   * @return
+   */
+  default <T> T get(Class<T> clazz, I_JseCtx leaf) {
+    return get(clazz);
+  }
+
+  /**
+   * This is the wall clock time in milliseconds, which SHOULD be used for
+   * timestamps and NOT for measuring durations.
+   * @see #getNanoTime()
+   */
   @Override
   default long getTime() {
     return System.currentTimeMillis();
   }
+
+  /**
+   * This is a monotonic time in nanoseconds, with a arbitrary origin,
+   * which SHOULD be used for measuring durations (latency) by subtracting
+   * two values.  Like {@link #getTime()} this is part of the context so that
+   * it can be stubbed.
+   * @return
+   */
+  default long getNanoTime() {
+    return System.nanoTime();
+  }
+
+  /**
+   * This returns a lazy reference which calls {@link #get(Class)} on first
+   * use, so that collaborators are only built when they are used.
+   * @param <T>
+   * @param clazz
+   * @return
+   * @see Lazy
+   */
+  default <T> Lazy<T> lazy(Class<T> clazz) {
+    return new Lazy<>(this, clazz);
+  }
 }
@@ -51,7 +51,7 @@ public interface I_PrintCtx extends I_JseCtx {
    * @return
    */
   default I_PrintCtx print(Object message) {
-    System.out.println(message);
+    System.out.print(message);
     return this;
   }
 
@@ -64,7 +64,7 @@ public interface I_PrintCtx extends I_JseCtx {
    * @return
    */
   default I_PrintCtx print(String message) {
-    System.out.println(message);
+    System.out.print(message);
     return this;
   }
 
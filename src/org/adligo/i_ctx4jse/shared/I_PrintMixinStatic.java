@@ -39,7 +39,7 @@ public interface I_PrintMixinStatic {
    * @return
    */
   static void print(Object message) {
-    System.out.println(message);
+    System.out.print(message);
   }
 
   /**
@@ -51,7 +51,7 @@ public interface I_PrintMixinStatic {
    * @return
    */
   static void print(String message) {
-    System.out.println(message);
+    System.out.print(message);
   }
 
   /**
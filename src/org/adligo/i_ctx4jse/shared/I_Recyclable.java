@@ -0,0 +1,37 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is implemented by short lived (i.e. per request) classes which may be
+ * pooled by a context, so that create can hand out recycled instances.
+ * The reset hook is called when a instance is released back to the pool.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public interface I_Recyclable {
+
+  /**
+   * This clears the state of this instance, so that it is equivalent to a
+   * newly created one.
+   */
+  void reset();
+}
@@ -0,0 +1,71 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.function.Supplier;
+
+/**
+ * This is a lazy reference to a instance, which is resolved through
+ * {@link I_JseCtx#get(Class)} on the first call to {@link #get()}, so that a
+ * {@link I_JseCtxAware} constructor can hold it's collaborators without
+ * building them.  The instance is published with double checked locking,
+ * so it is resolved at most once.
+ * @see RacyLazy
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class Lazy<T> implements Supplier<T> {
+  private final Class<T> clazz;
+  /**
+   * null after the instance is resolved
+   */
+  private I_JseCtx ctx;
+  private volatile T instance;
+
+  public Lazy(I_JseCtx ctx, Class<T> clazz) {
+    this.ctx = Check.notNull(ctx);
+    this.clazz = Check.notNull(clazz);
+  }
+
+  @Override
+  public T get() {
+    T r = instance;
+    if (r == null) {
+      synchronized (this) {
+        r = instance;
+        if (r == null) {
+          r = ctx.get(clazz);
+          instance = r;
+          ctx = null;
+        }
+      }
+    }
+    return r;
+  }
+
+  public Class<T> getClazz() {
+    return clazz;
+  }
+
+  public boolean isResolved() {
+    return instance != null;
+  }
+}
@@ -0,0 +1,178 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * This is a precompiled alternative to {@link Check#contains(Collection, Object)}
+ * and {@link Check#notContains(Collection, Object)} for large sets of long
+ * members which are checked many times.  The members are copied once into a
+ * sorted array without duplicates, so that each assertion is a O(log n) binary
+ * search without any auto boxing (except to format a failure).  The failure
+ * messages are the same as Check's.
+ * 
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public class LongMembershipChecker {
+  private final CheckCore core;
+  private final long[] members;
+
+  public LongMembershipChecker(long... members) {
+    core = CheckCore.STACK_TRACE;
+    long[] sorted = Check.notNull(members).clone();
+    Arrays.sort(sorted);
+    int size = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (size == 0 || sorted[size - 1] != sorted[i]) {
+        sorted[size++] = sorted[i];
+      }
+    }
+    this.members = size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+  }
+
+  public LongMembershipChecker(Collection<Long> members) {
+    this(toArray(members));
+  }
+
+  private static long[] toArray(Collection<Long> members) {
+    long[] r = new long[Check.notNull(members).size()];
+    int i = 0;
+    for (Long m : members) {
+      r[i++] = Check.notNull(m);
+    }
+    return r;
+  }
+
+  /**
+   * This asserts that the actual parameter is a member.
+   * @param actual
+   * @return the actual parameter
+   */
+  public long contains(long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("contains");
+    }
+    if (isMember(actual)) {
+      return actual;
+    }
+    throw core.recordFailure("contains", Check.THE_COLLECTION_MUST_CONTAIN, actual);
+  }
+
+  /**
+   * This asserts that the actual parameter is a member.
+   * @param message the failure message
+   * @param actual
+   * @return the actual parameter
+   */
+  public long contains(String message, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("contains");
+    }
+    if (isMember(actual)) {
+      return actual;
+    }
+    throw core.recordFailure("contains", message + Check.NEW_LINE, actual);
+  }
+
+  /**
+   * This asserts that the actual parameter is a member.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public long contains(Supplier<String> message, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("contains");
+    }
+    if (isMember(actual)) {
+      return actual;
+    }
+    throw core.recordFailure("contains", message.get() + Check.NEW_LINE, actual);
+  }
+
+  public boolean isMember(long actual) {
+    return Arrays.binarySearch(members, actual) >= 0;
+  }
+
+  /**
+   * This asserts that the actual parameter is NOT a member.
+   * @param actual
+   * @return the actual parameter
+   */
+  public long notContains(long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContains");
+    }
+    if (isMember(actual)) {
+      throw core.recordFailure("notContains", Check.THE_COLLECTION_MUST_NOT_CONTAIN, actual);
+    }
+    return actual;
+  }
+
+  /**
+   * This asserts that the actual parameter is NOT a member.
+   * @param message the failure message
+   * @param actual
+   * @return the actual parameter
+   */
+  public long notContains(String message, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContains");
+    }
+    if (isMember(actual)) {
+      throw core.recordFailure("notContains", message + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  /**
+   * This asserts that the actual parameter is NOT a member.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public long notContains(Supplier<String> message, long actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check("notContains");
+    }
+    if (isMember(actual)) {
+      throw core.recordFailure("notContains", message.get() + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  private LongMembershipChecker(CheckCore core, long[] members) {
+    this.core = core;
+    this.members = members;
+  }
+
+  public int size() {
+    return members.length;
+  }
+
+  /**
+   * @return a checker of the same members, which throws
+   * {@link StacklessCheckFailure}s like {@link StacklessCheck}
+   */
+  public LongMembershipChecker stackless() {
+    return new LongMembershipChecker(CheckCore.STACKLESS, members);
+  }
+}
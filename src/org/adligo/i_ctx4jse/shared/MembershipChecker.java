@@ -0,0 +1,186 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * This is a precompiled alternative to {@link Check#contains(Collection, Object)},
+ * {@link Check#notContains(Collection, Object)} and the containsValue methods,
+ * for large allow (or deny) lists which are checked many times.  The members are
+ * copied once into a immutable hashed index, so that each assertion is O(1)
+ * instead of a linear scan of a List or the values of a Map.  The failure
+ * messages are the same as Check's.<br/>
+ * See {@link IntMembershipChecker} and {@link LongMembershipChecker} for
+ * primitive members.
+ * 
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public class MembershipChecker<O> {
+
+  /**
+   * @param <O>
+   * @param map
+   * @return a checker of the map's values, with the same failure messages as
+   * {@link Check#containsValue(Map, Object)} and
+   * {@link Check#notContainsValue(Map, Object)}
+   */
+  public static <O> MembershipChecker<O> ofValues(Map<?, O> map) {
+    return new MembershipChecker<O>(CheckCore.STACK_TRACE, new HashSet<O>(map.values()),
+        Check.THE_MAP_MUST_CONTAIN_VALUE, Check.THE_MAP_MUST_NOT_CONTAIN_VALUE, "containsValue",
+        "notContainsValue");
+  }
+
+  private final String containsType;
+  private final CheckCore core;
+  private final Set<O> members;
+  private final String mustContain;
+  private final String mustNotContain;
+  private final String notContainsType;
+
+  public MembershipChecker(Collection<O> members) {
+    this(CheckCore.STACK_TRACE, new HashSet<O>(Check.notNull(members)),
+        Check.THE_COLLECTION_MUST_CONTAIN, Check.THE_COLLECTION_MUST_NOT_CONTAIN, "contains",
+        "notContains");
+  }
+
+  private MembershipChecker(CheckCore core, Set<O> members, String mustContain,
+      String mustNotContain, String containsType, String notContainsType) {
+    this.core = core;
+    this.members = members;
+    this.mustContain = mustContain;
+    this.mustNotContain = mustNotContain;
+    this.containsType = containsType;
+    this.notContainsType = notContainsType;
+  }
+
+  /**
+   * This asserts that the actual parameter is a member.
+   * @param actual
+   * @return the actual parameter
+   */
+  public O contains(O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check(containsType);
+    }
+    if (members.contains(actual)) {
+      return actual;
+    }
+    throw core.recordFailure(containsType, mustContain, actual);
+  }
+
+  /**
+   * This asserts that the actual parameter is a member.
+   * @param message the failure message
+   * @param actual
+   * @return the actual parameter
+   */
+  public O contains(String message, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check(containsType);
+    }
+    if (members.contains(actual)) {
+      return actual;
+    }
+    throw core.recordFailure(containsType, message + Check.NEW_LINE, actual);
+  }
+
+  /**
+   * This asserts that the actual parameter is a member.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public O contains(Supplier<String> message, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check(containsType);
+    }
+    if (members.contains(actual)) {
+      return actual;
+    }
+    throw core.recordFailure(containsType, message.get() + Check.NEW_LINE, actual);
+  }
+
+  public boolean isMember(O actual) {
+    return members.contains(actual);
+  }
+
+  /**
+   * This asserts that the actual parameter is NOT a member.
+   * @param actual
+   * @return the actual parameter
+   */
+  public O notContains(O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check(notContainsType);
+    }
+    if (members.contains(actual)) {
+      throw core.recordFailure(notContainsType, mustNotContain, actual);
+    }
+    return actual;
+  }
+
+  /**
+   * This asserts that the actual parameter is NOT a member.
+   * @param message the failure message
+   * @param actual
+   * @return the actual parameter
+   */
+  public O notContains(String message, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check(notContainsType);
+    }
+    if (members.contains(actual)) {
+      throw core.recordFailure(notContainsType, message + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  /**
+   * This asserts that the actual parameter is NOT a member.
+   * @param message supplies the failure message, which is only called on failure
+   * @param actual
+   * @return the actual parameter
+   */
+  public O notContains(Supplier<String> message, O actual) {
+    if (CheckMetrics.CHECKS) {
+      CheckMetrics.check(notContainsType);
+    }
+    if (members.contains(actual)) {
+      throw core.recordFailure(notContainsType, message.get() + Check.NEW_LINE, actual);
+    }
+    return actual;
+  }
+
+  public int size() {
+    return members.size();
+  }
+
+  /**
+   * @return a checker of the same members, which throws
+   * {@link StacklessCheckFailure}s like {@link StacklessCheck}
+   */
+  public MembershipChecker<O> stackless() {
+    return new MembershipChecker<O>(CheckCore.STACKLESS, members, mustContain, mustNotContain,
+        containsType, notContainsType);
+  }
+}
@@ -0,0 +1,61 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.function.Supplier;
+
+/**
+ * This is a lazy reference like {@link Lazy}, without the lock, so threads
+ * which race on the first {@link #get()} may each call
+ * {@link I_JseCtx#get(Class)}.  Since that returns the same (singleton)
+ * instance, this is only a little redundant work, and every later get is
+ * a single volatile read.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class RacyLazy<T> implements Supplier<T> {
+  private final Class<T> clazz;
+  private final I_JseCtx ctx;
+  private volatile T instance;
+
+  public RacyLazy(I_JseCtx ctx, Class<T> clazz) {
+    this.ctx = Check.notNull(ctx);
+    this.clazz = Check.notNull(clazz);
+  }
+
+  @Override
+  public T get() {
+    T r = instance;
+    if (r == null) {
+      r = ctx.get(clazz);
+      instance = r;
+    }
+    return r;
+  }
+
+  public Class<T> getClazz() {
+    return clazz;
+  }
+
+  public boolean isResolved() {
+    return instance != null;
+  }
+}
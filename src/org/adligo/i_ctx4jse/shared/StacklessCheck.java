@@ -0,0 +1,771 @@
+package org.adligo.i_ctx4jse.shared;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * This class provides the same assertion methods as {@link Check}, which
+ * throw {@link StacklessCheckFailure}s that do NOT fill in the stack trace,
+ * and format the actual and expected values lazily, only when
+ * {@link StacklessCheckFailure#getMessage()} is called.  Use it at call sites
+ * where rejecting malformed input is a normal high volume event, or mixin
+ * {@link StacklessCheckMixin} to select this for a whole class or context.<br/>
+ *   Also note that String.format is NOT used to to some incompatibility issues
+ * with some tools that this code is designed to work with.
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public class StacklessCheck {
+
+  /**
+   * @see Check#allNotNull(Object[])
+   */
+  public static <O> O[] allNotNull(O[] actual) {
+    return CheckCore.STACKLESS.allNotNull(actual);
+  }
+
+  /**
+   * @see Check#allNotNull(String, Object[])
+   */
+  public static <O> O[] allNotNull(String message, O[] actual) {
+    return CheckCore.STACKLESS.allNotNull(message, actual);
+  }
+
+  /**
+   * @see Check#allNotNull(Supplier, Object[])
+   */
+  public static <O> O[] allNotNull(Supplier<String> message, O[] actual) {
+    return CheckCore.STACKLESS.allNotNull(message, actual);
+  }
+
+  /**
+   * @see Check#allNotNull(Collection)
+   */
+  public static <C extends Collection<?>> C allNotNull(C actual) {
+    return CheckCore.STACKLESS.allNotNull(actual);
+  }
+
+  /**
+   * @see Check#allNotNull(String, Collection)
+   */
+  public static <C extends Collection<?>> C allNotNull(String message, C actual) {
+    return CheckCore.STACKLESS.allNotNull(message, actual);
+  }
+
+  /**
+   * @see Check#allNotNull(Supplier, Collection)
+   */
+  public static <C extends Collection<?>> C allNotNull(Supplier<String> message, C actual) {
+    return CheckCore.STACKLESS.allNotNull(message, actual);
+  }
+
+  /**
+   * @see Check#allNotEmpty(String[])
+   */
+  public static String[] allNotEmpty(String[] actual) {
+    return CheckCore.STACKLESS.allNotEmpty(actual);
+  }
+
+  /**
+   * @see Check#allNotEmpty(String, String[])
+   */
+  public static String[] allNotEmpty(String message, String[] actual) {
+    return CheckCore.STACKLESS.allNotEmpty(message, actual);
+  }
+
+  /**
+   * @see Check#allNotEmpty(Supplier, String[])
+   */
+  public static String[] allNotEmpty(Supplier<String> message, String[] actual) {
+    return CheckCore.STACKLESS.allNotEmpty(message, actual);
+  }
+
+  /**
+   * @see Check#allNotEmpty(Collection)
+   */
+  public static <C extends Collection<String>> C allNotEmpty(C actual) {
+    return CheckCore.STACKLESS.allNotEmpty(actual);
+  }
+
+  /**
+   * @see Check#allNotEmpty(String, Collection)
+   */
+  public static <C extends Collection<String>> C allNotEmpty(String message, C actual) {
+    return CheckCore.STACKLESS.allNotEmpty(message, actual);
+  }
+
+  /**
+   * @see Check#allNotEmpty(Supplier, Collection)
+   */
+  public static <C extends Collection<String>> C allNotEmpty(Supplier<String> message, C actual) {
+    return CheckCore.STACKLESS.allNotEmpty(message, actual);
+  }
+
+  /**
+   * @see Check#allInRange(int, int, int[])
+   */
+  public static int[] allInRange(int min, int max, int[] actual) {
+    return CheckCore.STACKLESS.allInRange(min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(String, int, int, int[])
+   */
+  public static int[] allInRange(String message, int min, int max, int[] actual) {
+    return CheckCore.STACKLESS.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(Supplier, int, int, int[])
+   */
+  public static int[] allInRange(Supplier<String> message, int min, int max, int[] actual) {
+    return CheckCore.STACKLESS.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(long, long, long[])
+   */
+  public static long[] allInRange(long min, long max, long[] actual) {
+    return CheckCore.STACKLESS.allInRange(min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(String, long, long, long[])
+   */
+  public static long[] allInRange(String message, long min, long max, long[] actual) {
+    return CheckCore.STACKLESS.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(Supplier, long, long, long[])
+   */
+  public static long[] allInRange(Supplier<String> message, long min, long max, long[] actual) {
+    return CheckCore.STACKLESS.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(double, double, double[])
+   */
+  public static double[] allInRange(double min, double max, double[] actual) {
+    return CheckCore.STACKLESS.allInRange(min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(String, double, double, double[])
+   */
+  public static double[] allInRange(String message, double min, double max, double[] actual) {
+    return CheckCore.STACKLESS.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#allInRange(Supplier, double, double, double[])
+   */
+  public static double[] allInRange(Supplier<String> message, double min, double max, double[] actual) {
+    return CheckCore.STACKLESS.allInRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#contains(Collection, Object)
+   */
+  public static <O> O contains(Collection<O> collection, O actual) {
+    return CheckCore.STACKLESS.contains(collection, actual);
+  }
+
+  /**
+   * @see Check#contains(String, Collection, Object)
+   */
+  public static <O> O contains(String message, Collection<O> collection, O actual) {
+    return CheckCore.STACKLESS.contains(message, collection, actual);
+  }
+
+  /**
+   * @see Check#contains(Supplier, Collection, Object)
+   */
+  public static <O> O contains(Supplier<String> message, Collection<O> collection, O actual) {
+    return CheckCore.STACKLESS.contains(message, collection, actual);
+  }
+
+  /**
+   * @see Check#containsKey(Map, Object)
+   */
+  public static <O,V> O containsKey(Map<O,V> map, O actual) {
+    return CheckCore.STACKLESS.containsKey(map, actual);
+  }
+
+  /**
+   * @see Check#containsKey(String, Map, Object)
+   */
+  public static <O,V> O containsKey(String message, Map<O,V> map, O actual) {
+    return CheckCore.STACKLESS.containsKey(message, map, actual);
+  }
+
+  /**
+   * @see Check#containsKey(Supplier, Map, Object)
+   */
+  public static <O,V> O containsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    return CheckCore.STACKLESS.containsKey(message, map, actual);
+  }
+
+  /**
+   * @see Check#containsValue(Map, Object)
+   */
+  public static <K, O> O containsValue(Map<K,O> map, O actual) {
+    return CheckCore.STACKLESS.containsValue(map, actual);
+  }
+
+  /**
+   * @see Check#containsValue(String, Map, Object)
+   */
+  public static <K, O> O containsValue(String message, Map<K,O> map, O actual) {
+    return CheckCore.STACKLESS.containsValue(message, map, actual);
+  }
+
+  /**
+   * @see Check#containsValue(Supplier, Map, Object)
+   */
+  public static <K, O> O containsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    return CheckCore.STACKLESS.containsValue(message, map, actual);
+  }
+
+  /**
+   * @see Check#equals(Object, Object)
+   */
+  public static <O> O equals(Object expected, O actual) {
+    return CheckCore.STACKLESS.equals(expected, actual);
+  }
+
+  /**
+   * @see Check#equals(String, Object, Object)
+   */
+  public static <O> O equals(String message, Object expected, O actual) {
+    return CheckCore.STACKLESS.equals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equals(Supplier, Object, Object)
+   */
+  public static <O> O equals(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACKLESS.equals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equals(String, String)
+   */
+  public static String equals(String expected, String actual){
+    return CheckCore.STACKLESS.equals(expected, actual);
+  }
+
+  /**
+   * @see Check#equals(String, String, String)
+   */
+  public static String equals(String message, String expected, String actual){
+    return CheckCore.STACKLESS.equals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equals(Supplier, String, String)
+   */
+  public static String equals(Supplier<String> message, String expected, String actual){
+    return CheckCore.STACKLESS.equals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equalsInt(int, int)
+   */
+  public static int equalsInt(int expected, int actual) {
+    return CheckCore.STACKLESS.equalsInt(expected, actual);
+  }
+
+  /**
+   * @see Check#equalsInt(String, int, int)
+   */
+  public static int equalsInt(String message, int expected, int actual) {
+    return CheckCore.STACKLESS.equalsInt(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equalsInt(Supplier, int, int)
+   */
+  public static int equalsInt(Supplier<String> message, int expected, int actual) {
+    return CheckCore.STACKLESS.equalsInt(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equalsLong(long, long)
+   */
+  public static long equalsLong(long expected, long actual) {
+    return CheckCore.STACKLESS.equalsLong(expected, actual);
+  }
+
+  /**
+   * @see Check#equalsLong(String, long, long)
+   */
+  public static long equalsLong(String message, long expected, long actual) {
+    return CheckCore.STACKLESS.equalsLong(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equalsLong(Supplier, long, long)
+   */
+  public static long equalsLong(Supplier<String> message, long expected, long actual) {
+    return CheckCore.STACKLESS.equalsLong(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equalsDouble(double, double)
+   */
+  public static double equalsDouble(double expected, double actual) {
+    return CheckCore.STACKLESS.equalsDouble(expected, actual);
+  }
+
+  /**
+   * @see Check#equalsDouble(String, double, double)
+   */
+  public static double equalsDouble(String message, double expected, double actual) {
+    return CheckCore.STACKLESS.equalsDouble(message, expected, actual);
+  }
+
+  /**
+   * @see Check#equalsDouble(Supplier, double, double)
+   */
+  public static double equalsDouble(Supplier<String> message, double expected, double actual) {
+    return CheckCore.STACKLESS.equalsDouble(message, expected, actual);
+  }
+
+  /**
+   * @see Check#isFalse(boolean)
+   */
+  public static void isFalse(boolean actual){
+    CheckCore.STACKLESS.isFalse(actual);
+  }
+
+  /**
+   * @see Check#isFalse(String, boolean)
+   */
+  public static void isFalse(String message, boolean actual){
+    CheckCore.STACKLESS.isFalse(message, actual);
+  }
+
+  /**
+   * @see Check#isFalse(Supplier, boolean)
+   */
+  public static void isFalse(Supplier<String> message, boolean actual){
+    CheckCore.STACKLESS.isFalse(message, actual);
+  }
+
+  /**
+   * @see Check#inRange(int, int, int)
+   */
+  public static int inRange(int min, int max, int actual) {
+    return CheckCore.STACKLESS.inRange(min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(String, int, int, int)
+   */
+  public static int inRange(String message, int min, int max, int actual) {
+    return CheckCore.STACKLESS.inRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(Supplier, int, int, int)
+   */
+  public static int inRange(Supplier<String> message, int min, int max, int actual) {
+    return CheckCore.STACKLESS.inRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(long, long, long)
+   */
+  public static long inRange(long min, long max, long actual) {
+    return CheckCore.STACKLESS.inRange(min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(String, long, long, long)
+   */
+  public static long inRange(String message, long min, long max, long actual) {
+    return CheckCore.STACKLESS.inRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(Supplier, long, long, long)
+   */
+  public static long inRange(Supplier<String> message, long min, long max, long actual) {
+    return CheckCore.STACKLESS.inRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(double, double, double)
+   */
+  public static double inRange(double min, double max, double actual) {
+    return CheckCore.STACKLESS.inRange(min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(String, double, double, double)
+   */
+  public static double inRange(String message, double min, double max, double actual) {
+    return CheckCore.STACKLESS.inRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#inRange(Supplier, double, double, double)
+   */
+  public static double inRange(Supplier<String> message, double min, double max, double actual) {
+    return CheckCore.STACKLESS.inRange(message, min, max, actual);
+  }
+
+  /**
+   * @see Check#isPositive(int)
+   */
+  public static int isPositive(int actual) {
+    return CheckCore.STACKLESS.isPositive(actual);
+  }
+
+  /**
+   * @see Check#isPositive(String, int)
+   */
+  public static int isPositive(String message, int actual) {
+    return CheckCore.STACKLESS.isPositive(message, actual);
+  }
+
+  /**
+   * @see Check#isPositive(Supplier, int)
+   */
+  public static int isPositive(Supplier<String> message, int actual) {
+    return CheckCore.STACKLESS.isPositive(message, actual);
+  }
+
+  /**
+   * @see Check#isPositive(long)
+   */
+  public static long isPositive(long actual) {
+    return CheckCore.STACKLESS.isPositive(actual);
+  }
+
+  /**
+   * @see Check#isPositive(String, long)
+   */
+  public static long isPositive(String message, long actual) {
+    return CheckCore.STACKLESS.isPositive(message, actual);
+  }
+
+  /**
+   * @see Check#isPositive(Supplier, long)
+   */
+  public static long isPositive(Supplier<String> message, long actual) {
+    return CheckCore.STACKLESS.isPositive(message, actual);
+  }
+
+  /**
+   * @see Check#isPositive(double)
+   */
+  public static double isPositive(double actual) {
+    return CheckCore.STACKLESS.isPositive(actual);
+  }
+
+  /**
+   * @see Check#isPositive(String, double)
+   */
+  public static double isPositive(String message, double actual) {
+    return CheckCore.STACKLESS.isPositive(message, actual);
+  }
+
+  /**
+   * @see Check#isPositive(Supplier, double)
+   */
+  public static double isPositive(Supplier<String> message, double actual) {
+    return CheckCore.STACKLESS.isPositive(message, actual);
+  }
+
+  /**
+   * @see Check#notContains(Collection, Object)
+   */
+  public static <O> O notContains(Collection<O> collection, O actual) {
+    return CheckCore.STACKLESS.notContains(collection, actual);
+  }
+
+  /**
+   * @see Check#notContains(String, Collection, Object)
+   */
+  public static <O> O notContains(String message, Collection<O> collection, O actual) {
+    return CheckCore.STACKLESS.notContains(message, collection, actual);
+  }
+
+  /**
+   * @see Check#notContains(Supplier, Collection, Object)
+   */
+  public static <O> O notContains(Supplier<String> message, Collection<O> collection, O actual) {
+    return CheckCore.STACKLESS.notContains(message, collection, actual);
+  }
+
+  /**
+   * @see Check#notContainsKey(Map, Object)
+   */
+  public static <O,V> O notContainsKey(Map<O,V> map, O actual) {
+    return CheckCore.STACKLESS.notContainsKey(map, actual);
+  }
+
+  /**
+   * @see Check#notContainsKey(String, Map, Object)
+   */
+  public static <O,V> O notContainsKey(String message, Map<O,V> map, O actual) {
+    return CheckCore.STACKLESS.notContainsKey(message, map, actual);
+  }
+
+  /**
+   * @see Check#notContainsKey(Supplier, Map, Object)
+   */
+  public static <O,V> O notContainsKey(Supplier<String> message, Map<O,V> map, O actual) {
+    return CheckCore.STACKLESS.notContainsKey(message, map, actual);
+  }
+
+  /**
+   * @see Check#notContainsValue(Map, Object)
+   */
+  public static <K, O> O notContainsValue(Map<K,O> map, O actual) {
+    return CheckCore.STACKLESS.notContainsValue(map, actual);
+  }
+
+  /**
+   * @see Check#notContainsValue(String, Map, Object)
+   */
+  public static <K, O> O notContainsValue(String message, Map<K,O> map, O actual) {
+    return CheckCore.STACKLESS.notContainsValue(message, map, actual);
+  }
+
+  /**
+   * @see Check#notContainsValue(Supplier, Map, Object)
+   */
+  public static <K, O> O notContainsValue(Supplier<String> message, Map<K,O> map, O actual) {
+    return CheckCore.STACKLESS.notContainsValue(message, map, actual);
+  }
+
+  /**
+   * @see Check#notEmpty(String)
+   */
+  public static String notEmpty(String actual){
+    return CheckCore.STACKLESS.notEmpty(actual);
+  }
+
+  /**
+   * @see Check#notEmpty(String, String)
+   */
+  public static String notEmpty(String message, String actual){
+    return CheckCore.STACKLESS.notEmpty(message, actual);
+  }
+
+  /**
+   * @see Check#notEmpty(Supplier, String)
+   */
+  public static String notEmpty(Supplier<String> message, String actual){
+    return CheckCore.STACKLESS.notEmpty(message, actual);
+  }
+
+  /**
+   * @see Check#notNull(Object)
+   */
+  public static <O> O  notNull(O actual){
+    return CheckCore.STACKLESS.notNull(actual);
+  }
+
+  /**
+   * @see Check#notNull(String, Object)
+   */
+  public static <O> O notNull(String message, O actual){
+    return CheckCore.STACKLESS.notNull(message, actual);
+  }
+
+  /**
+   * @see Check#notNull(Supplier, Object)
+   */
+  public static <O> O notNull(Supplier<String> message, O actual){
+    return CheckCore.STACKLESS.notNull(message, actual);
+  }
+
+  /**
+   * @see Check#notEquals(Object, Object)
+   */
+  public static <O> O notEquals(Object expected, O actual){
+    return CheckCore.STACKLESS.notEquals(expected, actual);
+  }
+
+  /**
+   * @see Check#notEquals(String, Object, Object)
+   */
+  public static <O> O notEquals(String message, Object expected, O actual) {
+    return CheckCore.STACKLESS.notEquals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEquals(Supplier, Object, Object)
+   */
+  public static <O> O notEquals(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACKLESS.notEquals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEquals(String, String)
+   */
+  public static String notEquals(String expected, String actual) {
+    return CheckCore.STACKLESS.notEquals(expected, actual);
+  }
+
+  /**
+   * @see Check#notEquals(String, String, String)
+   */
+  public static String notEquals(String message, String expected, String actual) {
+    return CheckCore.STACKLESS.notEquals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEquals(Supplier, String, String)
+   */
+  public static String notEquals(Supplier<String> message, String expected, String actual) {
+    return CheckCore.STACKLESS.notEquals(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsInt(int, int)
+   */
+  public static int notEqualsInt(int expected, int actual) {
+    return CheckCore.STACKLESS.notEqualsInt(expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsInt(String, int, int)
+   */
+  public static int notEqualsInt(String message, int expected, int actual) {
+    return CheckCore.STACKLESS.notEqualsInt(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsInt(Supplier, int, int)
+   */
+  public static int notEqualsInt(Supplier<String> message, int expected, int actual) {
+    return CheckCore.STACKLESS.notEqualsInt(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsLong(long, long)
+   */
+  public static long notEqualsLong(long expected, long actual) {
+    return CheckCore.STACKLESS.notEqualsLong(expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsLong(String, long, long)
+   */
+  public static long notEqualsLong(String message, long expected, long actual) {
+    return CheckCore.STACKLESS.notEqualsLong(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsLong(Supplier, long, long)
+   */
+  public static long notEqualsLong(Supplier<String> message, long expected, long actual) {
+    return CheckCore.STACKLESS.notEqualsLong(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsDouble(double, double)
+   */
+  public static double notEqualsDouble(double expected, double actual) {
+    return CheckCore.STACKLESS.notEqualsDouble(expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsDouble(String, double, double)
+   */
+  public static double notEqualsDouble(String message, double expected, double actual) {
+    return CheckCore.STACKLESS.notEqualsDouble(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notEqualsDouble(Supplier, double, double)
+   */
+  public static double notEqualsDouble(Supplier<String> message, double expected, double actual) {
+    return CheckCore.STACKLESS.notEqualsDouble(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notSame(Object, Object)
+   */
+  public static <O> O  notSame(Object expected, O actual) {
+    return CheckCore.STACKLESS.notSame(expected, actual);
+  }
+
+  /**
+   * @see Check#notSame(String, Object, Object)
+   */
+  public static <O> O notSame(String message, Object expected, O actual) {
+    return CheckCore.STACKLESS.notSame(message, expected, actual);
+  }
+
+  /**
+   * @see Check#notSame(Supplier, Object, Object)
+   */
+  public static <O> O notSame(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACKLESS.notSame(message, expected, actual);
+  }
+
+  /**
+   * @see Check#same(Object, Object)
+   */
+  public static <O> O same(Object expected, O actual) {
+    return CheckCore.STACKLESS.same(expected, actual);
+  }
+
+  /**
+   * @see Check#same(String, Object, Object)
+   */
+  public static <O> O same(String message, Object expected, O actual) {
+    return CheckCore.STACKLESS.same(message, expected, actual);
+  }
+
+  /**
+   * @see Check#same(Supplier, Object, Object)
+   */
+  public static <O> O same(Supplier<String> message, Object expected, O actual) {
+    return CheckCore.STACKLESS.same(message, expected, actual);
+  }
+
+  /**
+   * @see Check#isTrue(boolean)
+   */
+  public static void isTrue(boolean actual) {
+    CheckCore.STACKLESS.isTrue(actual);
+  }
+
+  /**
+   * @see Check#isTrue(String, boolean)
+   */
+  public static void isTrue(String message, boolean actual) {
+    CheckCore.STACKLESS.isTrue(message, actual);
+  }
+
+  /**
+   * @see Check#isTrue(Supplier, boolean)
+   */
+  public static void isTrue(Supplier<String> message, boolean actual) {
+    CheckCore.STACKLESS.isTrue(message, actual);
+  }
+}
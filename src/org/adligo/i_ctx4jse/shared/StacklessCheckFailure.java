@@ -0,0 +1,60 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This is the {@link CheckFailure} thrown by {@link StacklessCheck} and
+ * {@link StacklessCheckMixin}, it does NOT fill in the stack trace, which
+ * dominates the cost of throwing when rejecting malformed input is a normal
+ * high volume event.  It's message is also formatted lazily on the first
+ * {@link #getMessage()}, from the actual and expected references, so a
+ * argument which is mutated after the failure changes the message.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class StacklessCheckFailure extends CheckFailure {
+  private static final long serialVersionUID = 1L;
+
+  public StacklessCheckFailure(String message) {
+    super(message);
+  }
+
+  public StacklessCheckFailure(String prefix, Object actual) {
+    super(prefix, actual);
+  }
+
+  public StacklessCheckFailure(String prefix, Object actual, Object expected) {
+    super(prefix, actual, expected);
+  }
+
+  public StacklessCheckFailure(String prefix, Object actual, Object min, Object max) {
+    super(prefix, actual, min, max);
+  }
+
+  /**
+   * IllegalArgumentException doesn't expose the writableStackTrace
+   * constructor, so this is overridden instead.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
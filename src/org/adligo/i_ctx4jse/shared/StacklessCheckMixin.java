@@ -0,0 +1,32 @@
+package org.adligo.i_ctx4jse.shared;
+
+/**
+ * This mixin selects the stackless failures for all of the {@link CheckMixin}
+ * methods, so that classes (or contexts) which implement it throw
+ * {@link StacklessCheckFailure}s that do NOT fill in the stack trace.
+ * @author scott
+ * <pre><code>
+ *  ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code></pre>
+ */
+public interface StacklessCheckMixin extends CheckMixin {
+
+  @Override
+  default boolean isStackless() {
+    return true;
+  }
+}
@@ -0,0 +1,222 @@
+package org.adligo.i_ctx4jse.apt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * This annotation processor generates a static, reflection free
+ * org.adligo.i_ctx4jse.shared.I_JseCreator registry for GWT and Native
+ * Compilation.  It includes every concrete public I_JseCtxAware class
+ * (with a public I_JseCtx constructor) and every class annotated with
+ * org.adligo.i_ctx4jse.shared.CtxBean (with a public zero argument
+ * constructor).  The generated create method is a String switch on the
+ * class name, which javac compiles to a hash lookup table, and the generated
+ * getClasses method returns the classes sorted by name.<br/>
+ * <br/>
+ * The fully qualified name of the generated class may be set with the
+ * processor option -Aorg.adligo.i_ctx4jse.registry=com.example.MyRegistry
+ * it defaults to {@link #DEFAULT_REGISTRY}.  Note the registry is generated in
+ * the first round which has candidate classes, so classes generated by other
+ * processors in later rounds are NOT included.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CtxRegistryProcessor extends AbstractProcessor {
+  public static final String CTX_BEAN = "org.adligo.i_ctx4jse.shared.CtxBean";
+  public static final String DEFAULT_REGISTRY = "org.adligo.i_ctx4jse.generated.JseCtxRegistry";
+  public static final String I_JSE_CTX = "org.adligo.i_ctx4jse.shared.I_JseCtx";
+  public static final String I_JSE_CTX_AWARE = "org.adligo.i_ctx4jse.shared.I_JseCtxAware";
+  public static final String REGISTRY_OPTION = "org.adligo.i_ctx4jse.registry";
+
+  public static final String REQUIRES_A_PUBLIC_CONSTRUCTOR = " requires a public zero argument constructor for the @CtxBean registry.";
+  public static final String REQUIRES_A_PUBLIC_CLASS = " must be a public concrete (and if nested static) class for the @CtxBean registry.";
+
+  private boolean generated;
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    // I_JseCtxAware classes are discovered without any annotation
+    return Collections.singleton("*");
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Collections.singleton(REGISTRY_OPTION);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (generated || roundEnv.processingOver()) {
+      return false;
+    }
+    TypeElement ctxBean = processingEnv.getElementUtils().getTypeElement(CTX_BEAN);
+    TypeElement aware = processingEnv.getElementUtils().getTypeElement(I_JSE_CTX_AWARE);
+    if (aware == null) {
+      //the i_ctx4jse jar isn't on the class path
+      return false;
+    }
+    TypeMirror awareType = processingEnv.getTypeUtils().erasure(aware.asType());
+    //key binary class name, value true for I_JseCtxAware classes
+    Map<String, Boolean> entries = new TreeMap<>();
+    Map<String, String> sourceNames = new TreeMap<>();
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      add(type, ctxBean, awareType, entries, sourceNames);
+    }
+    if (entries.isEmpty()) {
+      return false;
+    }
+    generated = true;
+    String registry = processingEnv.getOptions().getOrDefault(REGISTRY_OPTION, DEFAULT_REGISTRY);
+    try {
+      write(registry, entries, sourceNames);
+    } catch (IOException x) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, x.toString());
+    }
+    return false;
+  }
+
+  private void add(TypeElement type, TypeElement ctxBean, TypeMirror awareType,
+      Map<String, Boolean> entries, Map<String, String> sourceNames) {
+    for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+      add(nested, ctxBean, awareType, entries, sourceNames);
+    }
+    boolean bean = isAnnotated(type, ctxBean);
+    boolean ctxAware = processingEnv.getTypeUtils().isAssignable(type.asType(), awareType);
+    if (!bean && !ctxAware) {
+      return;
+    }
+    Set<Modifier> mods = type.getModifiers();
+    if (type.getKind() != ElementKind.CLASS || mods.contains(Modifier.ABSTRACT)
+        || !mods.contains(Modifier.PUBLIC)
+        || (type.getNestingKind() == NestingKind.MEMBER && !mods.contains(Modifier.STATIC))) {
+      if (bean) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+            type.getQualifiedName() + REQUIRES_A_PUBLIC_CLASS, type);
+      }
+      return;
+    }
+    if (hasPublicConstructor(type, ctxAware)) {
+      String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+      entries.put(name, ctxAware);
+      sourceNames.put(name, type.getQualifiedName().toString());
+    } else if (bean) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          type.getQualifiedName() + REQUIRES_A_PUBLIC_CONSTRUCTOR, type);
+    }
+  }
+
+  private boolean hasPublicConstructor(TypeElement type, boolean ctxAware) {
+    for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (!c.getModifiers().contains(Modifier.PUBLIC)) {
+        continue;
+      }
+      List<? extends VariableElement> params = c.getParameters();
+      if (ctxAware) {
+        if (params.size() == 1 && I_JSE_CTX.equals(
+            processingEnv.getTypeUtils().erasure(params.get(0).asType()).toString())) {
+          return true;
+        }
+      } else if (params.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isAnnotated(Element type, TypeElement annotation) {
+    if (annotation == null) {
+      return false;
+    }
+    return type.getAnnotationMirrors().stream().anyMatch(
+        (m) -> annotation.equals(m.getAnnotationType().asElement()));
+  }
+
+  private void write(String registry, Map<String, Boolean> entries,
+      Map<String, String> sourceNames) throws IOException {
+    int lastDot = registry.lastIndexOf('.');
+    String pkg = lastDot == -1 ? "" : registry.substring(0, lastDot);
+    String simpleName = registry.substring(lastDot + 1);
+    try (Writer w = processingEnv.getFiler().createSourceFile(registry).openWriter()) {
+      if (!pkg.isEmpty()) {
+        w.write("package " + pkg + ";\n\n");
+      }
+      w.write("import org.adligo.i_ctx4jse.shared.I_JseCreator;\n");
+      w.write("import org.adligo.i_ctx4jse.shared.I_JseCtx;\n\n");
+      w.write("/**\n");
+      w.write(" * This reflection free registry was generated by the\n");
+      w.write(" * " + CtxRegistryProcessor.class.getName() + ", do NOT edit.\n");
+      w.write(" */\n");
+      w.write("public final class " + simpleName + " implements I_JseCreator {\n");
+      w.write("  public static final String NOT_IN_REGISTRY = \"The following class is NOT in the "
+          + simpleName + "; \";\n\n");
+      w.write("  /**\n   * sorted by class name\n   */\n");
+      w.write("  private static final Class<?>[] CLASSES = new Class<?>[] {\n");
+      for (String name : entries.keySet()) {
+        w.write("    " + sourceNames.get(name) + ".class,\n");
+      }
+      w.write("  };\n\n");
+      w.write("  /**\n   * @return the classes in this registry sorted by name\n   */\n");
+      w.write("  public static Class<?>[] getClasses() {\n");
+      w.write("    return CLASSES.clone();\n");
+      w.write("  }\n\n");
+      w.write("  @SuppressWarnings(\"unchecked\")\n");
+      w.write("  @Override\n");
+      w.write("  public <T> T create(Class<T> clazz, I_JseCtx ctx) {\n");
+      w.write("    switch (clazz.getName()) {\n");
+      for (Map.Entry<String, Boolean> e : entries.entrySet()) {
+        w.write("      case \"" + e.getKey() + "\":\n");
+        w.write("        return (T) new " + sourceNames.get(e.getKey())
+            + (e.getValue() ? "(ctx);\n" : "();\n"));
+      }
+      w.write("      default:\n");
+      w.write("        throw new IllegalArgumentException(NOT_IN_REGISTRY + clazz.getName());\n");
+      w.write("    }\n");
+      w.write("  }\n");
+      w.write("}\n");
+    }
+  }
+}
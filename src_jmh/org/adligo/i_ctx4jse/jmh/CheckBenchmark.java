@@ -0,0 +1,583 @@
+package org.adligo.i_ctx4jse.jmh;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.adligo.i_ctx4jse.shared.Check;
+import org.adligo.i_ctx4jse.shared.StacklessCheck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This benchmarks every {@link Check} method on both the success and
+ * failure paths, the failure benchmarks return the thrown
+ * {@link IllegalArgumentException}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckBenchmark {
+  public static final String EMPTY = " ";
+  public static final String IN = "in";
+  public static final String MESSAGE = "The benchmark message";
+  public static final String OUT = "out";
+
+  private List<String> list;
+  private Map<String, String> map;
+  // fields so the JIT can NOT constant fold the checks
+  private boolean falseValue = false;
+  private String nullValue = null;
+  private boolean trueValue = true;
+
+  @Setup
+  public void setup() {
+    list = new ArrayList<>();
+    map = new HashMap<>();
+    for (int i = 0; i < 16; i++) {
+      list.add("s" + i);
+      map.put("k" + i, "v" + i);
+    }
+    list.add(IN);
+    map.put(IN, IN);
+  }
+
+  @Benchmark
+  public Object containsSuccess() {
+    return Check.contains(list, IN);
+  }
+
+  @Benchmark
+  public Object containsFailure() {
+    try {
+      Check.contains(list, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object containsMessageSuccess() {
+    return Check.contains(MESSAGE, list, IN);
+  }
+
+  @Benchmark
+  public Object containsMessageFailure() {
+    try {
+      Check.contains(MESSAGE, list, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object containsKeySuccess() {
+    return Check.containsKey(map, IN);
+  }
+
+  @Benchmark
+  public Object containsKeyFailure() {
+    try {
+      Check.containsKey(map, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object containsKeyMessageSuccess() {
+    return Check.containsKey(MESSAGE, map, IN);
+  }
+
+  @Benchmark
+  public Object containsKeyMessageFailure() {
+    try {
+      Check.containsKey(MESSAGE, map, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object containsValueSuccess() {
+    return Check.containsValue(map, IN);
+  }
+
+  @Benchmark
+  public Object containsValueFailure() {
+    try {
+      Check.containsValue(map, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object containsValueMessageSuccess() {
+    return Check.containsValue(MESSAGE, map, IN);
+  }
+
+  @Benchmark
+  public Object containsValueMessageFailure() {
+    try {
+      Check.containsValue(MESSAGE, map, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object equalsObjectSuccess() {
+    return Check.equals((Object) IN, IN);
+  }
+
+  @Benchmark
+  public Object equalsObjectFailure() {
+    try {
+      Check.equals((Object) IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object equalsObjectMessageSuccess() {
+    return Check.equals(MESSAGE, (Object) IN, IN);
+  }
+
+  @Benchmark
+  public Object equalsObjectMessageFailure() {
+    try {
+      Check.equals(MESSAGE, (Object) IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object equalsStringSuccess() {
+    return Check.equals(IN, IN);
+  }
+
+  @Benchmark
+  public Object equalsStringFailure() {
+    try {
+      Check.equals(IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object equalsStringMessageSuccess() {
+    return Check.equals(MESSAGE, IN, IN);
+  }
+
+  @Benchmark
+  public Object equalsStringMessageFailure() {
+    try {
+      Check.equals(MESSAGE, IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public boolean isFalseSuccess() {
+    Check.isFalse(falseValue);
+    return true;
+  }
+
+  @Benchmark
+  public Object isFalseFailure() {
+    try {
+      Check.isFalse(trueValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public boolean isFalseMessageSuccess() {
+    Check.isFalse(MESSAGE, falseValue);
+    return true;
+  }
+
+  @Benchmark
+  public Object isFalseMessageFailure() {
+    try {
+      Check.isFalse(MESSAGE, trueValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public boolean isTrueSuccess() {
+    Check.isTrue(trueValue);
+    return true;
+  }
+
+  @Benchmark
+  public Object isTrueFailure() {
+    try {
+      Check.isTrue(falseValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public boolean isTrueMessageSuccess() {
+    Check.isTrue(MESSAGE, trueValue);
+    return true;
+  }
+
+  @Benchmark
+  public Object isTrueMessageFailure() {
+    try {
+      Check.isTrue(MESSAGE, falseValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notContainsSuccess() {
+    return Check.notContains(list, OUT);
+  }
+
+  @Benchmark
+  public Object notContainsFailure() {
+    try {
+      Check.notContains(list, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notContainsMessageSuccess() {
+    return Check.notContains(MESSAGE, list, OUT);
+  }
+
+  @Benchmark
+  public Object notContainsMessageFailure() {
+    try {
+      Check.notContains(MESSAGE, list, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notContainsKeySuccess() {
+    return Check.notContainsKey(map, OUT);
+  }
+
+  @Benchmark
+  public Object notContainsKeyFailure() {
+    try {
+      Check.notContainsKey(map, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notContainsKeyMessageSuccess() {
+    return Check.notContainsKey(MESSAGE, map, OUT);
+  }
+
+  @Benchmark
+  public Object notContainsKeyMessageFailure() {
+    try {
+      Check.notContainsKey(MESSAGE, map, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notContainsValueSuccess() {
+    return Check.notContainsValue(map, OUT);
+  }
+
+  @Benchmark
+  public Object notContainsValueFailure() {
+    try {
+      Check.notContainsValue(map, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notContainsValueMessageSuccess() {
+    return Check.notContainsValue(MESSAGE, map, OUT);
+  }
+
+  @Benchmark
+  public Object notContainsValueMessageFailure() {
+    try {
+      Check.notContainsValue(MESSAGE, map, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notEmptySuccess() {
+    return Check.notEmpty(IN);
+  }
+
+  @Benchmark
+  public Object notEmptyFailure() {
+    try {
+      Check.notEmpty(EMPTY);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notEmptyMessageSuccess() {
+    return Check.notEmpty(MESSAGE, IN);
+  }
+
+  @Benchmark
+  public Object notEmptyMessageFailure() {
+    try {
+      Check.notEmpty(MESSAGE, EMPTY);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notNullSuccess() {
+    return Check.notNull(IN);
+  }
+
+  @Benchmark
+  public Object notNullFailure() {
+    try {
+      Check.notNull(nullValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notNullMessageSuccess() {
+    return Check.notNull(MESSAGE, IN);
+  }
+
+  @Benchmark
+  public Object notNullMessageFailure() {
+    try {
+      Check.notNull(MESSAGE, nullValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notEqualsObjectSuccess() {
+    return Check.notEquals((Object) IN, OUT);
+  }
+
+  @Benchmark
+  public Object notEqualsObjectFailure() {
+    try {
+      Check.notEquals((Object) IN, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notEqualsObjectMessageSuccess() {
+    return Check.notEquals(MESSAGE, (Object) IN, OUT);
+  }
+
+  @Benchmark
+  public Object notEqualsObjectMessageFailure() {
+    try {
+      Check.notEquals(MESSAGE, (Object) IN, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notEqualsStringSuccess() {
+    return Check.notEquals(IN, OUT);
+  }
+
+  @Benchmark
+  public Object notEqualsStringFailure() {
+    try {
+      Check.notEquals(IN, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notEqualsStringMessageSuccess() {
+    return Check.notEquals(MESSAGE, IN, OUT);
+  }
+
+  @Benchmark
+  public Object notEqualsStringMessageFailure() {
+    try {
+      Check.notEquals(MESSAGE, IN, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notSameSuccess() {
+    return Check.notSame(IN, OUT);
+  }
+
+  @Benchmark
+  public Object notSameFailure() {
+    try {
+      Check.notSame(IN, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notSameMessageSuccess() {
+    return Check.notSame(MESSAGE, IN, OUT);
+  }
+
+  @Benchmark
+  public Object notSameMessageFailure() {
+    try {
+      Check.notSame(MESSAGE, IN, IN);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object sameSuccess() {
+    return Check.same(IN, IN);
+  }
+
+  @Benchmark
+  public Object sameFailure() {
+    try {
+      Check.same(IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object sameMessageSuccess() {
+    return Check.same(MESSAGE, IN, IN);
+  }
+
+  @Benchmark
+  public Object sameMessageFailure() {
+    try {
+      Check.same(MESSAGE, IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object equalsObjectStacklessFailure() {
+    try {
+      StacklessCheck.equals((Object) IN, OUT);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public Object notNullStacklessFailure() {
+    try {
+      StacklessCheck.notNull(nullValue);
+    } catch (IllegalArgumentException x) {
+      return x;
+    }
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,103 @@
+package org.adligo.i_ctx4jse.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.adligo.i_ctx4jse.jvm.ClassValueCtx;
+import org.adligo.i_ctx4jse.jvm.MethodHandleCreator;
+import org.adligo.i_ctx4jse.jvm.ReflectionCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This benchmarks {@link org.adligo.i_ctx4jse.shared.I_JseCtx#create(Class)}
+ * with the reflective, method handle and precompiled (the registry generated
+ * by the CtxRegistryProcessor) strategies, against a direct new.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CtxCreateBenchmark {
+  private ClassValueCtx reflective;
+  private ClassValueCtx methodHandle;
+  private ClassValueCtx precompiled;
+
+  @Setup
+  public void setup() {
+    reflective = new ClassValueCtx(new ReflectionCreator());
+    methodHandle = new ClassValueCtx(new MethodHandleCreator());
+    precompiled = new ClassValueCtx(new JmhCtxRegistry());
+  }
+
+  @Benchmark
+  public JmhBean direct() {
+    return new JmhBean();
+  }
+
+  @Benchmark
+  public JmhBean reflective() {
+    return reflective.create(JmhBean.class);
+  }
+
+  @Benchmark
+  public JmhBean methodHandle() {
+    return methodHandle.create(JmhBean.class);
+  }
+
+  @Benchmark
+  public JmhBean precompiled() {
+    return precompiled.create(JmhBean.class);
+  }
+
+  @Benchmark
+  public JmhCtxAwareBean ctxAwareDirect() {
+    return new JmhCtxAwareBean(reflective);
+  }
+
+  @Benchmark
+  public JmhCtxAwareBean ctxAwareReflective() {
+    return reflective.create(JmhCtxAwareBean.class);
+  }
+
+  @Benchmark
+  public JmhCtxAwareBean ctxAwareMethodHandle() {
+    return methodHandle.create(JmhCtxAwareBean.class);
+  }
+
+  @Benchmark
+  public JmhCtxAwareBean ctxAwarePrecompiled() {
+    return precompiled.create(JmhCtxAwareBean.class);
+  }
+}
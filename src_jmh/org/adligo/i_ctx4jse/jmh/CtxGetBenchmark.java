@@ -0,0 +1,99 @@
+package org.adligo.i_ctx4jse.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.adligo.i_ctx4jse.jvm.ClassValueCtx;
+import org.adligo.i_ctx4jse.jvm.FrozenCtx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This benchmarks {@link org.adligo.i_ctx4jse.shared.I_JseCtx#get(Class)}
+ * of existing singletons under contention from 1, 8 and 64 threads, and
+ * the same lookups after {@link ClassValueCtx#freeze()}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CtxGetBenchmark {
+  private ClassValueCtx ctx;
+  private FrozenCtx frozen;
+
+  @Setup
+  public void setup() {
+    ctx = new ClassValueCtx();
+    ctx.get(JmhBean.class);
+    ctx.get(JmhCtxAwareBean.class);
+    frozen = ctx.freeze();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public JmhBean frozenGet1Thread() {
+    return frozen.get(JmhBean.class);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public JmhBean frozenGet64Threads() {
+    return frozen.get(JmhBean.class);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public JmhBean get1Thread() {
+    return ctx.get(JmhBean.class);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public JmhBean get8Threads() {
+    return ctx.get(JmhBean.class);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public JmhBean get64Threads() {
+    return ctx.get(JmhBean.class);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public JmhCtxAwareBean getCtxAware64Threads() {
+    return ctx.get(JmhCtxAwareBean.class);
+  }
+}
@@ -0,0 +1,43 @@
+package org.adligo.i_ctx4jse.jmh;
+
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+
+/**
+ * This is a {@link I_JseCtxAware} class which is created
+ * and looked up by the benchmarks.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class JmhCtxAwareBean implements I_JseCtxAware {
+  private final I_JseCtx ctx;
+
+  public JmhCtxAwareBean(I_JseCtx ctx) {
+    this.ctx = ctx;
+  }
+
+  @Override
+  public I_JseCtx getCtx() {
+    return ctx;
+  }
+}
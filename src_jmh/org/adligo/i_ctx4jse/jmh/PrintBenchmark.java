@@ -0,0 +1,87 @@
+package org.adligo.i_ctx4jse.jmh;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.adligo.i_ctx4jse.jvm.ClassValueCtx;
+import org.adligo.i_ctx4jse.shared.I_PrintCtx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This benchmarks the throughput of {@link I_PrintCtx#println(String)},
+ * with System.out redirected to a auto flushing {@link PrintStream} which
+ * discards the bytes, so that the console isn't measured.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrintBenchmark {
+  public static final String LINE = "The quick brown fox jumps over the lazy dog.";
+
+  public static class PrintCtx extends ClassValueCtx implements I_PrintCtx {
+  }
+
+  private I_PrintCtx ctx;
+  private PrintStream out;
+
+  @Setup
+  public void setup() {
+    out = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream(), true));
+    ctx = new PrintCtx();
+  }
+
+  @TearDown
+  public void tearDown() {
+    System.setOut(out);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public I_PrintCtx println1Thread() {
+    return ctx.println(LINE);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public I_PrintCtx println8Threads() {
+    return ctx.println(LINE);
+  }
+}
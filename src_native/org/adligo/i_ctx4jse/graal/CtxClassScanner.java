@@ -0,0 +1,212 @@
+package org.adligo.i_ctx4jse.graal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+
+/**
+ * This finds the classes which {@link I_JseCtx#create(Class)} may create
+ * reflectively, in class path directories and jars.  These are the public
+ * concrete classes annotated with org.adligo.i_ctx4jse.shared.CtxBean (with a
+ * public zero argument constructor) and optionally the I_JseCtxAware classes
+ * (with a public I_JseCtx constructor), the same as the CtxRegistryProcessor.
+ * Since CtxBean isn't retained at runtime, the class files are searched for
+ * it's descriptor, and only the matching classes are loaded.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CtxClassScanner {
+  public static final String CLASS_SUFFIX = ".class";
+  public static final String CTX_BEAN_DESCRIPTOR = "Lorg/adligo/i_ctx4jse/shared/CtxBean;";
+  public static final String DEFAULT_REGISTRY = "org.adligo.i_ctx4jse.generated.JseCtxRegistry";
+  /**
+   * the system property with the registry class name, the same as the
+   * processor option
+   */
+  public static final String REGISTRY_PROPERTY = "org.adligo.i_ctx4jse.registry";
+
+  private static final byte[] CTX_BEAN_BYTES = CTX_BEAN_DESCRIPTOR.getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * @param clazz
+   * @return the constructor {@link I_JseCtx#create(Class)} uses, or null if
+   * the class can't be created
+   */
+  public static Constructor<?> getConstructor(Class<?> clazz) {
+    int mods = clazz.getModifiers();
+    if (clazz.isInterface() || Modifier.isAbstract(mods) || !Modifier.isPublic(mods)
+        || (clazz.isMemberClass() && !Modifier.isStatic(mods))
+        || clazz.isLocalClass() || clazz.isAnonymousClass()) {
+      return null;
+    }
+    try {
+      if (I_JseCtxAware.class.isAssignableFrom(clazz)) {
+        return clazz.getConstructor(I_JseCtx.class);
+      }
+      return clazz.getConstructor();
+    } catch (NoSuchMethodException | LinkageError x) {
+      return null;
+    }
+  }
+
+  static boolean contains(byte[] bytes, byte[] pattern) {
+    int last = bytes.length - pattern.length;
+    outer:
+    for (int i = 0; i <= last; i++) {
+      for (int j = 0; j < pattern.length; j++) {
+        if (bytes[i + j] != pattern[j]) {
+          continue outer;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private final TreeMap<String, Class<?>> candidates = new TreeMap<>();
+  private final boolean includeAware;
+  private final Function<String, Class<?>> loader;
+
+  /**
+   * @param loader loads a class by name without initializing it, or
+   * returns null
+   * @param includeAware true to also load every class to find the
+   * I_JseCtxAware classes
+   */
+  public CtxClassScanner(Function<String, Class<?>> loader, boolean includeAware) {
+    this.loader = loader;
+    this.includeAware = includeAware;
+  }
+
+  private void add(Class<?> clazz) {
+    if (clazz != null && getConstructor(clazz) != null) {
+      candidates.put(clazz.getName(), clazz);
+    }
+  }
+
+  private void check(String entryName, byte[] bytes) {
+    if (entryName.endsWith("module-info" + CLASS_SUFFIX)
+        || entryName.endsWith("package-info" + CLASS_SUFFIX)) {
+      return;
+    }
+    boolean bean = contains(bytes, CTX_BEAN_BYTES);
+    if (!bean && !includeAware) {
+      return;
+    }
+    String name = entryName.substring(0, entryName.length() - CLASS_SUFFIX.length())
+        .replace('/', '.').replace('\\', '.');
+    Class<?> clazz;
+    try {
+      clazz = loader.apply(name);
+    } catch (LinkageError x) {
+      //i.e. a optional dependency isn't on the class path
+      return;
+    }
+    if (clazz != null && (bean || I_JseCtxAware.class.isAssignableFrom(clazz))) {
+      add(clazz);
+    }
+  }
+
+  /**
+   * @return the classes found so far, sorted by name
+   */
+  public Collection<Class<?>> getCandidates() {
+    return new ArrayList<>(candidates.values());
+  }
+
+  /**
+   * @param entry a class path directory or jar
+   * @return this
+   */
+  public CtxClassScanner scan(Path entry) {
+    try {
+      if (Files.isDirectory(entry)) {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(entry)) {
+          files = paths.filter((p) -> p.toString().endsWith(CLASS_SUFFIX))
+              .collect(Collectors.toList());
+        }
+        for (Path p : files) {
+          check(entry.relativize(p).toString(), Files.readAllBytes(p));
+        }
+      } else if (Files.isRegularFile(entry)) {
+        try (JarFile jar = new JarFile(entry.toFile())) {
+          Enumeration<JarEntry> entries = jar.entries();
+          while (entries.hasMoreElements()) {
+            JarEntry e = entries.nextElement();
+            //skip the multi release versions
+            if (e.getName().endsWith(CLASS_SUFFIX) && !e.getName().startsWith("META-INF/")) {
+              try (InputStream in = jar.getInputStream(e)) {
+                check(e.getName(), in.readAllBytes());
+              }
+            }
+          }
+        }
+      }
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+    return this;
+  }
+
+  /**
+   * This adds the classes of the registry generated by the
+   * CtxRegistryProcessor, if it is on the class path.
+   * @param registry the class name
+   * @return this
+   */
+  public CtxClassScanner scanRegistry(String registry) {
+    Class<?> clazz = loader.apply(registry);
+    if (clazz == null) {
+      return this;
+    }
+    try {
+      Method getClasses = clazz.getMethod("getClasses");
+      for (Class<?> c : (Class<?>[]) getClasses.invoke(null)) {
+        add(c);
+      }
+    } catch (ReflectiveOperationException x) {
+      throw new IllegalStateException(registry, x);
+    }
+    return this;
+  }
+}
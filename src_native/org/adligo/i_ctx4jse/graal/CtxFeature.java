@@ -0,0 +1,78 @@
+package org.adligo.i_ctx4jse.graal;
+
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
+
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeClassInitialization;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+/**
+ * This GraalVM native-image {@link Feature} registers the constructors which
+ * a reflective {@link I_JseCtx#create(Class)} uses, for the classes that are
+ * reachable in the image, so they don't need to be listed in
+ * reflect-config.json by hand.  A class literal passed to create or get makes
+ * the class reachable.  The I_JseCtxAware classes are found with a subtype
+ * reachability handler, and the CtxBean classes by scanning the application
+ * class path (see {@link CtxClassScanner}).  The CtxRegistryProcessor's
+ * generated registry (if any) is initialized at build time, set it's name
+ * with -Dorg.adligo.i_ctx4jse.registry=com.example.MyRegistry<br/>
+ * It is enabled by the native-image.properties in this jar.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CtxFeature implements Feature {
+
+  private static void register(Class<?> clazz) {
+    Constructor<?> c = CtxClassScanner.getConstructor(clazz);
+    if (c != null) {
+      RuntimeReflection.register(clazz);
+      RuntimeReflection.register(c);
+    }
+  }
+
+  @Override
+  public void beforeAnalysis(BeforeAnalysisAccess access) {
+    access.registerSubtypeReachabilityHandler((a, clazz) -> register(clazz),
+        I_JseCtxAware.class);
+    CtxClassScanner scanner = new CtxClassScanner(access::findClassByName, false);
+    for (Path entry : access.getApplicationClassPath()) {
+      scanner.scan(entry);
+    }
+    for (Class<?> bean : scanner.getCandidates()) {
+      access.registerReachabilityHandler((a) -> register(bean), bean);
+    }
+    Class<?> registry = access.findClassByName(System.getProperty(
+        CtxClassScanner.REGISTRY_PROPERTY, CtxClassScanner.DEFAULT_REGISTRY));
+    if (registry != null) {
+      RuntimeClassInitialization.initializeAtBuildTime(registry);
+    }
+  }
+
+  @Override
+  public String getDescription() {
+    return "Registers the I_JseCtxAware and CtxBean constructors for I_JseCtx.create";
+  }
+}
@@ -0,0 +1,116 @@
+package org.adligo.i_ctx4jse.graal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+
+/**
+ * This writes the native-image reflect-config.json, for the classes found by
+ * the {@link CtxClassScanner} in the class path entries (and the generated
+ * registry if any), for builds which don't use the {@link CtxFeature}. It is
+ * run by gradle nativeMetadata or;<br/>
+ * java org.adligo.i_ctx4jse.graal.ReachabilityMetadataGenerator
+ * reflect-config.json classPathEntry...
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ReachabilityMetadataGenerator {
+  public static final String USAGE = "Usage: java org.adligo.i_ctx4jse.graal.ReachabilityMetadataGenerator"
+      + " reflect-config.json classPathEntry...";
+
+  public static void main(String[] args) throws MalformedURLException {
+    if (args.length < 2) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    Path[] entries = new Path[args.length - 1];
+    URL[] urls = new URL[entries.length];
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = Paths.get(args[i + 1]);
+      urls[i] = entries[i].toUri().toURL();
+    }
+    ClassLoader loader = new URLClassLoader(urls,
+        ReachabilityMetadataGenerator.class.getClassLoader());
+    CtxClassScanner scanner = new CtxClassScanner((name) -> {
+      try {
+        return Class.forName(name, false, loader);
+      } catch (ClassNotFoundException x) {
+        return null;
+      }
+    }, true);
+    for (Path entry : entries) {
+      scanner.scan(entry);
+    }
+    scanner.scanRegistry(System.getProperty(CtxClassScanner.REGISTRY_PROPERTY,
+        CtxClassScanner.DEFAULT_REGISTRY));
+    Collection<Class<?>> classes = scanner.getCandidates();
+    write(Paths.get(args[0]), classes);
+    System.out.println("Wrote " + classes.size() + " classes to " + args[0]);
+  }
+
+  /**
+   * @param file
+   * @param classes
+   */
+  public static void write(Path file, Collection<Class<?>> classes) {
+    StringBuilder sb = new StringBuilder(classes.size() * 128 + 4);
+    sb.append("[");
+    String separator = "\n";
+    for (Class<?> c : classes) {
+      Constructor<?> constructor = CtxClassScanner.getConstructor(c);
+      sb.append(separator).append("  {\n");
+      sb.append("    \"name\": \"").append(c.getName()).append("\",\n");
+      sb.append("    \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": [");
+      Class<?>[] params = constructor.getParameterTypes();
+      for (int i = 0; i < params.length; i++) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        sb.append('"').append(params[i].getName()).append('"');
+      }
+      sb.append("]}]\n  }");
+      separator = ",\n";
+    }
+    sb.append("\n]\n");
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+        w.write(sb.toString());
+      }
+    } catch (IOException x) {
+      throw new UncheckedIOException(x);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests that {@link AsyncPrintCtx#flush()} waits for the background
+ * thread to write the messages, not just to take them from the buffer.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class AsyncPrintCtxTest {
+
+  /**
+   * This is slow to print (before taking the stream's lock), so that a
+   * batch is in flight for a while after it left the buffer.
+   */
+  private static class SlowStream extends PrintStream {
+
+    SlowStream(ByteArrayOutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void print(Object obj) {
+      LockSupport.parkNanos(1000000);
+      super.print(obj);
+    }
+  }
+
+  @Test
+  public void testFlushWaitsForTheWrite() {
+    ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    String lineSeparator = System.lineSeparator();
+    try (AsyncPrintCtx ctx = new AsyncPrintCtx(new ClassValueCtx(), new SlowStream(sink),
+        1024, PrintBackpressure.BLOCK)) {
+      int n = 0;
+      for (int round = 0; round < 20; round++) {
+        for (int i = 0; i < 50; i++) {
+          ctx.println("m" + n++);
+        }
+        ctx.flush();
+        String text;
+        synchronized (sink) {
+          text = sink.toString();
+        }
+        assertEquals(n, text.split(lineSeparator).length);
+      }
+    }
+  }
+}
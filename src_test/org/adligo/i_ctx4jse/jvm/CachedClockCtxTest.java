@@ -0,0 +1,81 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests that the beans created through a {@link CachedClockCtx} read
+ * the cached clock, NOT the delegate's clock.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CachedClockCtxTest {
+
+  public static class ClockAware implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public ClockAware(I_JseCtx ctx) {
+      this.ctx = ctx;
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  @Test
+  public void testBeansReadTheCachedClock() {
+    AtomicLong calls = new AtomicLong();
+    I_JseCtx counting = new DelegatingJseCtx(new ClassValueCtx()) {
+      @Override
+      public long getTime() {
+        return calls.incrementAndGet();
+      }
+    };
+    try (CachedClockCtx clock = new CachedClockCtx(counting, 1, TimeUnit.HOURS)) {
+      //the constructor and the ticker's first tick
+      while (calls.get() < 2) {
+        Thread.onSpinWait();
+      }
+      long before = calls.get();
+      ClockAware got = clock.get(ClockAware.class);
+      ClockAware created = clock.create(ClockAware.class);
+      assertSame(clock, got.getCtx());
+      assertSame(clock, created.getCtx());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(clock.getTime(), got.getCtx().getTime());
+        assertEquals(clock.getTime(), created.getCtx().getTime());
+      }
+      assertEquals(before, calls.get());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests the creation of the singletons of a {@link ClassValueCtx}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ClassValueCtxTest {
+  static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+  public static class Counted implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Counted(I_JseCtx ctx) throws InterruptedException {
+      this.ctx = ctx;
+      CONSTRUCTIONS.incrementAndGet();
+      //so the other threads arrive while this is being created
+      Thread.sleep(20);
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  public static class Chicken implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Chicken(I_JseCtx ctx) {
+      this.ctx = ctx;
+      ctx.get(Egg.class);
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  public static class Egg implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Egg(I_JseCtx ctx) {
+      this.ctx = ctx;
+      ctx.get(Chicken.class);
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  @Test
+  public void testCreatedOnceUnderContention() throws Exception {
+    ClassValueCtx ctx = new ClassValueCtx();
+    int before = CONSTRUCTIONS.get();
+    int threads = 16;
+    CyclicBarrier start = new CyclicBarrier(threads);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Counted>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return ctx.get(Counted.class);
+        }));
+      }
+      Counted first = futures.get(0).get();
+      for (Future<Counted> f : futures) {
+        assertSame(first, f.get());
+      }
+      assertEquals(before + 1, CONSTRUCTIONS.get());
+      assertSame(ctx, first.getCtx());
+      assertSame(first, ctx.get(Counted.class));
+      assertFalse(first == ctx.create(Counted.class));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCircularCreationFails() {
+    ClassValueCtx ctx = new ClassValueCtx();
+    RuntimeException x = assertThrows(RuntimeException.class, () -> ctx.get(Chicken.class));
+    boolean circular = false;
+    for (Throwable t = x; t != null; t = t.getCause()) {
+      String message = t.getMessage();
+      circular |= message != null && message.contains(ClassValueCtx.CIRCULAR_CREATION_OF);
+    }
+    assertTrue(circular);
+    //the failed holders can be retried
+    assertThrows(RuntimeException.class, () -> ctx.get(Egg.class));
+  }
+
+  @Test
+  public void testFreezeSnapshotsTheInstances() {
+    ClassValueCtx ctx = new ClassValueCtx();
+    Counted counted = ctx.get(Counted.class);
+    FrozenCtx frozen = ctx.freeze();
+    assertEquals(1, frozen.getSize());
+    assertSame(ctx, frozen.getSource());
+    assertSame(counted, frozen.get(Counted.class));
+  }
+}
@@ -0,0 +1,105 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests that a {@link CtxWarmUp} of classes which depend on each other,
+ * without declaring it, fails instead of deadlocking.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CtxWarmUpTest {
+  /**
+   * so that Ping and Pong are being created at the same time
+   */
+  static final CountDownLatch BOTH_STARTED = new CountDownLatch(2);
+
+  public static class Ping implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Ping(I_JseCtx ctx) throws InterruptedException {
+      this.ctx = ctx;
+      BOTH_STARTED.countDown();
+      BOTH_STARTED.await(10, TimeUnit.SECONDS);
+      ctx.get(Pong.class);
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  public static class Pong implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Pong(I_JseCtx ctx) throws InterruptedException {
+      this.ctx = ctx;
+      BOTH_STARTED.countDown();
+      BOTH_STARTED.await(10, TimeUnit.SECONDS);
+      ctx.get(Ping.class);
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  private static boolean isCircular(Throwable x) {
+    for (Throwable t = x; t != null; t = t.getCause()) {
+      String message = t.getMessage();
+      if (message != null && message.contains(ClassValueCtx.CIRCULAR_CREATION_OF)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Test
+  public void testUndeclaredCycleBetweenThreadsFails() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CtxWarmUpReport report = new CtxWarmUp(new ClassValueCtx(), executor)
+          .warmUp(Arrays.asList(Ping.class, Pong.class));
+      assertEquals(0, report.getWarmed().size());
+      assertEquals(2, report.getFailures().size());
+      for (Throwable x : report.getFailures().values()) {
+        assertTrue(isCircular(x));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
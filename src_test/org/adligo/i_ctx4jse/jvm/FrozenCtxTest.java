@@ -0,0 +1,118 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Array;
+
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests the perfect hash lookups of a {@link FrozenCtx}, and it's
+ * fall back to the source context.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class FrozenCtxTest {
+
+  public static class Frozen implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Frozen(I_JseCtx ctx) {
+      this.ctx = ctx;
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  public static class Later implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Later(I_JseCtx ctx) {
+      this.ctx = ctx;
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  /**
+   * @param count
+   * @return distinct (array) classes, enough for a two level table
+   */
+  private static Class<?>[] classes(int count) {
+    Class<?>[] components = new Class<?>[] {String.class, Integer.class, Long.class, Object.class,
+        Double.class};
+    Class<?>[] r = new Class<?>[count];
+    for (int i = 0; i < count; i++) {
+      int[] dimensions = new int[1 + i / components.length];
+      r[i] = Array.newInstance(components[i % components.length], dimensions).getClass();
+    }
+    return r;
+  }
+
+  @Test
+  public void testLookupsAndFallBack() {
+    ClassValueCtx source = new ClassValueCtx();
+    Frozen frozen = source.get(Frozen.class);
+    FrozenCtx ctx = source.freeze();
+    assertEquals(1, ctx.getSize());
+    assertSame(frozen, ctx.get(Frozen.class));
+    assertSame(frozen, ctx.get(Frozen.class.getName()));
+
+    //NOT in the snapshot, so from the source, which it stands in for
+    Later later = ctx.get(Later.class);
+    assertSame(source.get(Later.class), later);
+    assertSame(source, later.getCtx());
+    Frozen created = ctx.create(Frozen.class);
+    assertFalse(created == frozen);
+    assertSame(source, created.getCtx());
+  }
+
+  @Test
+  public void testManyClasses() {
+    //the small tables are single level, the large ones two level
+    for (int count : new int[] {2, 10, 100, 1000}) {
+      Class<?>[] classes = classes(count);
+      Object[] instances = new Object[count];
+      for (int i = 0; i < count; i++) {
+        instances[i] = Integer.valueOf(i);
+      }
+      ClassValueCtx source = new ClassValueCtx();
+      FrozenCtx ctx = new FrozenCtx(source, classes, instances);
+      assertEquals(count, ctx.getSize());
+      for (int i = 0; i < count; i++) {
+        assertSame(instances[i], ctx.get(classes[i]));
+      }
+      assertSame(source.get(Later.class), ctx.get(Later.class));
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests the segments written by {@link MappedPrintCtx}, as they are
+ * read by {@link MappedLogTailer}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MappedPrintCtxTest {
+
+  private static int committed(Path segment) throws IOException {
+    return ByteBuffer.wrap(Files.readAllBytes(segment)).getInt(0);
+  }
+
+  @Test
+  public void testTheCommittedPositionIsVisibleToTheTailer() throws IOException {
+    Path directory = Files.createTempDirectory("mapped");
+    MappedPrintCtx ctx = new MappedPrintCtx(new ClassValueCtx(), directory, "app", 4096, 2);
+    MappedLogTailer tailer = new MappedLogTailer(directory, "app");
+    Path segment = MappedPrintCtx.segment(directory, "app", 0);
+    assertEquals(MappedPrintCtx.HEADER_SIZE, committed(segment));
+    assertEquals("", tailer.poll());
+
+    //a NUL in a message no longer ends the data
+    ctx.print("a\u0000b");
+    assertEquals(MappedPrintCtx.HEADER_SIZE + 3, committed(segment));
+    assertEquals("a\u0000b", tailer.poll());
+    ctx.println("\u00e9");
+    assertEquals(MappedPrintCtx.HEADER_SIZE + 3 + 2
+        + System.lineSeparator().getBytes(StandardCharsets.UTF_8).length, committed(segment));
+    assertEquals("\u00e9" + System.lineSeparator(), tailer.poll());
+    assertEquals("", tailer.poll());
+  }
+
+  @Test
+  public void testRollOverAndRetention() throws IOException {
+    Path directory = Files.createTempDirectory("mapped");
+    MappedPrintCtx ctx = new MappedPrintCtx(new ClassValueCtx(), directory, "app", 64, 3);
+    MappedLogTailer tailer = new MappedLogTailer(directory, "app");
+    StringBuilder expected = new StringBuilder();
+    StringBuilder read = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      String message = "message " + i;
+      ctx.println(message);
+      expected.append(message).append(System.lineSeparator());
+      read.append(tailer.poll());
+    }
+    read.append(tailer.poll());
+    assertEquals(expected.toString(), read.toString());
+    assertTrue(ctx.getSegmentIndex() > 3);
+    assertEquals(ctx.getSegmentIndex(), tailer.getSegmentIndex());
+    long[] indexes = MappedPrintCtx.indexes(directory, "app");
+    assertEquals(3, indexes.length);
+    assertEquals(ctx.getSegmentIndex(), indexes[2]);
+  }
+
+  @Test
+  public void testRestartAfterACrash() throws IOException {
+    Path directory = Files.createTempDirectory("mapped");
+    //glob characters in the prefix
+    String prefix = "app[1]*{x}";
+    MappedPrintCtx first = new MappedPrintCtx(new ClassValueCtx(), directory, prefix, 4096, 4);
+    first.println("first");
+    //the temporary file of a segment, left by a crash while it was created
+    Path next = MappedPrintCtx.segment(directory, prefix, 1);
+    Files.write(next.resolveSibling(next.getFileName() + MappedPrintCtx.TMP_SUFFIX),
+        new byte[] {1, 2, 3});
+
+    MappedPrintCtx second = new MappedPrintCtx(new ClassValueCtx(), directory, prefix, 4096, 4);
+    assertEquals(1, second.getSegmentIndex());
+    assertEquals(MappedPrintCtx.HEADER_SIZE, committed(next));
+    second.println("second");
+    MappedLogTailer tailer = new MappedLogTailer(directory, prefix);
+    assertEquals("first" + System.lineSeparator() + "second" + System.lineSeparator(),
+        tailer.poll());
+    assertEquals(1, tailer.getSegmentIndex());
+  }
+}
@@ -0,0 +1,163 @@
+package org.adligo.i_ctx4jse.jvm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.adligo.i_ctx4jse.shared.DelegatingJseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtx;
+import org.adligo.i_ctx4jse.shared.I_JseCtxAware;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests the caching of the instances of a {@link ScopedCacheCtx}'s
+ * scopes.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ScopedCacheCtxTest {
+
+  public static class Scoped implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Scoped(I_JseCtx ctx) {
+      this.ctx = ctx;
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  public static class ScopedB extends Scoped {
+
+    public ScopedB(I_JseCtx ctx) {
+      super(ctx);
+    }
+  }
+
+  public static class ScopedC extends Scoped {
+
+    public ScopedC(I_JseCtx ctx) {
+      super(ctx);
+    }
+  }
+
+  public static class Singleton implements I_JseCtxAware {
+    private final I_JseCtx ctx;
+
+    public Singleton(I_JseCtx ctx) {
+      this.ctx = ctx;
+    }
+
+    @Override
+    public I_JseCtx getCtx() {
+      return ctx;
+    }
+  }
+
+  @Test
+  public void testLeafOverloadsAreScoped() {
+    ScopedCacheCtx ctx = new ScopedCacheCtx(new ClassValueCtx(), new MethodHandleCreator(), 10)
+        .scoped(Scoped.class);
+    ScopedCacheCtx.Scope a = ctx.scope("a");
+    I_JseCtx decorated = new DelegatingJseCtx(a) { };
+
+    Scoped got = decorated.get(Scoped.class);
+    assertSame(got, a.get(Scoped.class));
+    assertSame(got, a.get(Scoped.class, decorated));
+    assertSame(a, got.getCtx());
+    assertFalse(got == ctx.scope("b").get(Scoped.class));
+    assertEquals(2, ctx.getMisses());
+    assertEquals(2, ctx.getHits());
+
+    Scoped created = decorated.create(Scoped.class);
+    assertSame(decorated, created.getCtx());
+    assertFalse(created == got);
+
+    Singleton singleton = decorated.get(Singleton.class);
+    assertSame(ctx.get(Singleton.class), singleton);
+    assertSame(ctx, singleton.getCtx());
+    assertEquals(2, ctx.getSize());
+  }
+
+  @Test
+  public void testTheLeastRecentlyUsedIsEvicted() {
+    ScopedCacheCtx ctx = new ScopedCacheCtx(new ClassValueCtx(), new MethodHandleCreator(), 2)
+        .scoped(Scoped.class).scoped(ScopedB.class).scoped(ScopedC.class);
+    ScopedCacheCtx.Scope a = ctx.scope("a");
+    Scoped scoped = a.get(Scoped.class);
+    ScopedB b = a.get(ScopedB.class);
+    //the hit promotes it out of probation, when the next miss drains the hits
+    assertSame(scoped, a.get(Scoped.class));
+    a.get(ScopedC.class);
+    assertEquals(2, ctx.getSize());
+    assertEquals(1, ctx.getEvictions());
+    assertSame(scoped, a.get(Scoped.class));
+    assertFalse(b == a.get(ScopedB.class));
+    assertEquals(2, ctx.getSize());
+  }
+
+  @Test
+  public void testExpiryAndInvalidationPerScope() {
+    AtomicLong time = new AtomicLong();
+    I_JseCtx clock = new DelegatingJseCtx(new ClassValueCtx()) {
+      @Override
+      public long getTime() {
+        return time.get();
+      }
+    };
+    ScopedCacheCtx ctx = new ScopedCacheCtx(clock, new MethodHandleCreator(), 10, 10,
+        TimeUnit.MILLISECONDS).scoped(Scoped.class).scoped(ScopedB.class);
+    ScopedCacheCtx.Scope a = ctx.scope("a");
+    ScopedCacheCtx.Scope b = ctx.scope("b");
+    Scoped inA = a.get(Scoped.class);
+    time.set(5);
+    Scoped inB = b.get(Scoped.class);
+    ScopedB bInB = b.get(ScopedB.class);
+    assertFalse(inA == inB);
+
+    time.set(12);
+    assertSame(inB, b.get(Scoped.class));
+    Scoped replaced = a.get(Scoped.class);
+    assertFalse(inA == replaced);
+    assertEquals(1, ctx.getExpirations());
+
+    time.set(16);
+    //the scope b instances are expired, but NOT yet removed
+    assertEquals(3, ctx.getSize());
+    assertEquals(2, ctx.cleanUp());
+    assertEquals(1, ctx.getSize());
+    assertSame(replaced, a.get(Scoped.class));
+
+    assertEquals(1, ctx.invalidate("a"));
+    assertEquals(0, ctx.invalidate("a"));
+    assertEquals(0, ctx.getSize());
+    assertFalse(replaced == a.get(Scoped.class));
+    assertFalse(bInB == b.get(ScopedB.class));
+  }
+}
@@ -0,0 +1,88 @@
+package org.adligo.i_ctx4jse.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests that a {@link CheckFailure} keeps it's message detail when it
+ * is serialized before the message is formatted.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CheckFailureTest {
+
+  private static Object roundTrip(Object o) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()))) {
+      return in.readObject();
+    }
+  }
+
+  @Test
+  public void testSerializedBeforeGetMessage() throws Exception {
+    CheckFailure expected = new CheckFailure(Check.THE_ACTUAL_MUST_BE_IN_RANGE, 7, 1, 5);
+    CheckFailure copy = (CheckFailure) roundTrip(
+        new CheckFailure(Check.THE_ACTUAL_MUST_BE_IN_RANGE, 7, 1, 5));
+    assertEquals(expected.getMessage(), copy.getMessage());
+
+    CheckFailure stackless = (CheckFailure) roundTrip(
+        new StacklessCheckFailure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, "a", "b"));
+    assertSame(StacklessCheckFailure.class, stackless.getClass());
+    assertEquals(new CheckFailure(Check.THE_ACTUAL_IS_NOT_EQUAL_TO_THE_EXPECTED, "a", "b")
+        .getMessage(), stackless.getMessage());
+  }
+
+  @Test
+  public void testTheMessageIsASnapshot() {
+    List<String> actual = new ArrayList<>(Arrays.asList("a"));
+    CheckFailure failure = assertThrows(CheckFailure.class,
+        () -> Check.equals(Arrays.asList("b"), actual));
+    String message = failure.getMessage();
+    actual.add("mutated");
+    assertEquals(message, failure.getMessage());
+    assertFalse(message.contains("mutated"));
+
+    //the stackless failure is lazy
+    CheckFailure stackless = assertThrows(StacklessCheckFailure.class,
+        () -> StacklessCheck.equals(Arrays.asList("b"), actual));
+    actual.add("later");
+    assertTrue(stackless.getMessage().contains("later"));
+  }
+}
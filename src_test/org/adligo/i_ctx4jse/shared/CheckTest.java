@@ -0,0 +1,53 @@
+package org.adligo.i_ctx4jse.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This pins the behavior of the equality methods with mixed primitive
+ * types, which are boxed and compared with Object#equals.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CheckTest {
+
+  @Test
+  public void testEqualsMixedTypesAreBoxed() {
+    assertThrows(IllegalArgumentException.class, () -> Check.equals(1, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> Check.equals(1L, 1));
+    assertEquals(Double.valueOf(1.0), Check.notEquals(1, 1.0));
+    assertEquals(Integer.valueOf(1), Check.notEquals(1L, 1));
+  }
+
+  @Test
+  public void testPrimitiveEquals() {
+    assertEquals(1, Check.equalsInt(1, 1));
+    assertEquals(1L, Check.equalsLong(1, 1L));
+    assertEquals(1.0, Check.equalsDouble(1, 1.0), 0.0);
+    assertThrows(IllegalArgumentException.class, () -> Check.equalsInt(1, 2));
+    assertThrows(IllegalArgumentException.class, () -> Check.notEqualsLong(1, 1L));
+    assertEquals(2.0, Check.notEqualsDouble(1, 2), 0.0);
+  }
+}
@@ -0,0 +1,74 @@
+package org.adligo.i_ctx4jse.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests that the membership checkers fail like {@link Check} and
+ * {@link StacklessCheck}.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MembershipCheckerTest {
+
+  @Test
+  public void testFailuresMatchCheck() {
+    List<String> members = Arrays.asList("a", "b");
+    MembershipChecker<String> checker = new MembershipChecker<>(members);
+    assertSame("a", checker.contains("a"));
+    CheckFailure expected = assertThrows(CheckFailure.class, () -> Check.contains(members, "c"));
+    CheckFailure actual = assertThrows(CheckFailure.class, () -> checker.contains("c"));
+    assertSame(CheckFailure.class, actual.getClass());
+    assertEquals(expected.getMessage(), actual.getMessage());
+
+    MembershipChecker<String> values = MembershipChecker.ofValues(
+        Collections.singletonMap("k", "a"));
+    assertEquals(assertThrows(CheckFailure.class,
+        () -> Check.notContainsValue(Collections.singletonMap("k", "a"), "a")).getMessage(),
+        assertThrows(CheckFailure.class, () -> values.notContains("a")).getMessage());
+  }
+
+  @Test
+  public void testStackless() {
+    MembershipChecker<String> checker = new MembershipChecker<>(Arrays.asList("a")).stackless();
+    assertSame(StacklessCheckFailure.class,
+        assertThrows(CheckFailure.class, () -> checker.contains("c")).getClass());
+    IntMembershipChecker ints = new IntMembershipChecker(1, 2);
+    assertSame(CheckFailure.class, assertThrows(CheckFailure.class, () -> ints.contains(3)).getClass());
+    assertSame(StacklessCheckFailure.class,
+        assertThrows(CheckFailure.class, () -> ints.stackless().notContains(1)).getClass());
+    assertEquals(2, ints.stackless().contains(2));
+    LongMembershipChecker longs = new LongMembershipChecker(1L, 2L);
+    assertSame(StacklessCheckFailure.class,
+        assertThrows(CheckFailure.class, () -> longs.stackless().contains(3L)).getClass());
+    assertEquals(assertThrows(CheckFailure.class, () -> longs.contains(3L)).getMessage(),
+        assertThrows(CheckFailure.class, () -> longs.stackless().contains(3L)).getMessage());
+  }
+}
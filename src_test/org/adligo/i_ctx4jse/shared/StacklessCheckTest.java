@@ -0,0 +1,65 @@
+package org.adligo.i_ctx4jse.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This tests that {@link StacklessCheck} and {@link StacklessCheckMixin}
+ * only differ from {@link Check} and {@link CheckMixin} in the failure's
+ * stack trace.
+ * <br/>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class StacklessCheckTest {
+  private static final CheckMixin MIXIN = new CheckMixin() { };
+  private static final StacklessCheckMixin STACKLESS_MIXIN = new StacklessCheckMixin() { };
+
+  @Test
+  public void testFailuresOnlyDifferInTheStackTrace() {
+    CheckFailure withStack = assertThrows(CheckFailure.class, () -> Check.equals("a", "b"));
+    CheckFailure stackless = assertThrows(StacklessCheckFailure.class,
+        () -> StacklessCheck.equals("a", "b"));
+    assertEquals(withStack.getMessage(), stackless.getMessage());
+    assertTrue(withStack.getStackTrace().length > 0);
+    assertEquals(0, stackless.getStackTrace().length);
+    assertSame(CheckFailure.class, withStack.getClass());
+
+    int[] values = new int[] {1, 9};
+    assertEquals(assertThrows(CheckFailure.class, () -> Check.allInRange(0, 5, values)).getMessage(),
+        assertThrows(StacklessCheckFailure.class,
+            () -> StacklessCheck.allInRange(0, 5, values)).getMessage());
+  }
+
+  @Test
+  public void testMixins() {
+    assertSame(CheckFailure.class, assertThrows(CheckFailure.class,
+        () -> MIXIN.notNull(null)).getClass());
+    assertSame(StacklessCheckFailure.class, assertThrows(CheckFailure.class,
+        () -> STACKLESS_MIXIN.notNull(null)).getClass());
+    assertEquals("a", STACKLESS_MIXIN.notEmpty("a"));
+  }
+}